@@ -0,0 +1,30 @@
+package org.data.extractor.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Checked-in congreso member pages (src/jmh/resources/fixtures) in several sizes:
+ * small (30 rows, little markup), medium (130 rows, typical page) and large (130 rows, heavy page chrome).
+ */
+final class Fixtures {
+
+    static final String BASE_URL = "https://www.congreso.gob.pe/pleno/congresistas/";
+
+    private Fixtures() {
+    }
+
+    static String load(String size) {
+        String path = "/fixtures/congresistas-" + size + ".html";
+        try (InputStream in = Fixtures.class.getResourceAsStream(path)) {
+            if (in == null) {
+                throw new IllegalStateException("Fixture not found: " + path);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package org.data.extractor.benchmark;
+
+import org.data.extractor.pojo.CongressMember;
+import org.data.extractor.service.MemberTableExtractor;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Member table and period dropdown extraction over the page fixtures.
+ * The {@code jsoup*} benchmarks reproduce the full-DOM approach ParseDocument used before
+ * the streaming extractor, as a baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms512m", "-Xmx512m"})
+public class ParsingBenchmark {
+
+    @Param({"small", "medium", "large"})
+    public String size;
+
+    private String html;
+    private MemberTableExtractor extractor;
+
+    @Setup
+    public void setup() {
+        html = Fixtures.load(size);
+        extractor = new MemberTableExtractor(Fixtures.BASE_URL);
+    }
+
+    @Benchmark
+    public Document jsoupParse() {
+        return Jsoup.parse(html);
+    }
+
+    @Benchmark
+    public List<CongressMember> jsoupParseAndRowLoop() {
+        Document doc = Jsoup.parse(html);
+        Element table = doc.selectFirst("table");
+
+        List<CongressMember> members = new ArrayList<>();
+        Elements rows = table.select("tr");
+        for (int i = 1; i < rows.size(); i++) {
+            Elements cols = rows.get(i).select("td");
+            if (cols.size() >= 3) {
+                Element nameLink = cols.get(1).selectFirst("a");
+                if (nameLink == null) continue;
+                Element emailLink = cols.get(3).selectFirst("a");
+                members.add(new CongressMember(
+                        nameLink.text().trim(),
+                        cols.get(2).text().trim(),
+                        emailLink != null ? emailLink.text().trim() : "",
+                        Fixtures.BASE_URL + nameLink.attr("href")));
+            }
+        }
+        return members;
+    }
+
+    @Benchmark
+    public List<CongressMember> streamingExtractMembers() {
+        return extractor.extractMembers(html).orElseThrow();
+    }
+
+    @Benchmark
+    public List<String> jsoupPeriodDropdown() {
+        return Jsoup.parse(html).selectFirst("select").select("option").eachText();
+    }
+
+    @Benchmark
+    public List<String> streamingPeriodDropdown() {
+        return extractor.extractPeriodOptions(html);
+    }
+}
@@ -0,0 +1,141 @@
+package org.data.extractor.benchmark;
+
+import org.data.extractor.metrics.ScraperMetrics;
+import org.data.extractor.pojo.CongressMember;
+import org.data.extractor.repository.WebpageSummary;
+import org.data.extractor.service.MemberTableExtractor;
+import org.data.extractor.service.PageContentStore;
+import org.data.extractor.service.PageFragmentStore;
+import org.data.extractor.service.WebpageRepositoryService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Webpage save/load round-trips and freshness lookups against PostgreSQL, through the real
+ * repositories and services. The native upserts ({@code ON CONFLICT}) need the real database.
+ * <p>
+ * Runs against {@code -Dbench.jdbc-url} (with {@code bench.jdbc-user} / {@code bench.jdbc-password})
+ * when set, otherwise against a throwaway Testcontainers PostgreSQL. The {@code congreso} tables
+ * of a configured database are dropped and recreated: never point it at real data.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms512m", "-Xmx512m"})
+public class StorageBenchmark {
+
+    private static final String PERIOD = "Parlamentario 2021 - 2026";
+
+    @Param({"small", "large"})
+    public String size;
+
+    // Snapshot rows already in the table, spread over a handful of periods
+    @Param({"1000"})
+    public int existingSnapshots;
+
+    private PostgreSQLContainer postgres;
+    private ConfigurableApplicationContext context;
+    private WebpageRepositoryService service;
+    private String html;
+    private long counter;
+
+    @Configuration
+    @EnableAutoConfiguration
+    @AutoConfigurationPackage(basePackages = "org.data.extractor")
+    @Import({WebpageRepositoryService.class, PageContentStore.class, PageFragmentStore.class,
+            MemberTableExtractor.class, ScraperMetrics.class})
+    static class StorageOnlyConfiguration {
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        String url = System.getProperty("bench.jdbc-url");
+        String user = System.getProperty("bench.jdbc-user", "postgres");
+        String password = System.getProperty("bench.jdbc-password", "postgres");
+        if (url == null) {
+            postgres = new PostgreSQLContainer("postgres:17-alpine");
+            postgres.start();
+            url = postgres.getJdbcUrl();
+            user = postgres.getUsername();
+            password = postgres.getPassword();
+        }
+        try (Connection connection = DriverManager.getConnection(url, user, password);
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE SCHEMA IF NOT EXISTS congreso");
+        }
+
+        context = new SpringApplicationBuilder(StorageOnlyConfiguration.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=" + url,
+                        "spring.datasource.username=" + user,
+                        "spring.datasource.password=" + password,
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.properties.hibernate.default_schema=congreso",
+                        "congreso.base-url=" + Fixtures.BASE_URL)
+                .run();
+        service = context.getBean(WebpageRepositoryService.class);
+        html = Fixtures.load(size);
+
+        for (int i = 0; i < existingSnapshots; i++) {
+            service.saveSnapshot("Periodo " + (i % 8), html + "<!-- " + i + " -->");
+        }
+        service.saveSnapshot(PERIOD, html);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        if (postgres != null) {
+            postgres.stop();
+        }
+    }
+
+    @Benchmark
+    public Object saveNewContent() {
+        return service.saveSnapshot(PERIOD, html + "<!-- new " + (counter++) + " -->");
+    }
+
+    @Benchmark
+    public Object saveDuplicateContent() {
+        return service.saveSnapshot(PERIOD, html);
+    }
+
+    @Benchmark
+    public Optional<String> loadLatestPage() {
+        return service.findLatest(PERIOD).flatMap(service::loadPage);
+    }
+
+    @Benchmark
+    public Optional<List<CongressMember>> loadLatestMembers() {
+        return service.findLatest(PERIOD).flatMap(service::loadMembers);
+    }
+
+    @Benchmark
+    public Optional<WebpageSummary> freshnessLatestSince() {
+        return service.findLatestSince(PERIOD, Duration.ofDays(1));
+    }
+
+    @Benchmark
+    public boolean freshnessRollingWindow() {
+        return service.isFresh(PERIOD, Duration.ofDays(1));
+    }
+}
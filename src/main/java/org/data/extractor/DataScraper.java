@@ -1,34 +1,44 @@
 package org.data.extractor;
 
 
-import org.data.extractor.service.ParseDocument;
-import org.data.extractor.service.SeleniumCongressFetcher;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.data.extractor.pojo.ParliamentaryPeriod;
+import org.data.extractor.service.SnapshotStore;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.util.List;
+import java.util.Map;
 
 @SpringBootApplication
+@EnableScheduling
 public class DataScraper {
 
-
-    @Autowired
-    ParseDocument parseDocument;
-
-    @Autowired
-    SeleniumCongressFetcher scf;
-
     public static void main(String[] args) {
-        SpringApplication.run(DataScraper.class, args);
+        SpringApplication application = new SpringApplication(DataScraper.class);
+        // Lowest-priority defaults; application.properties still wins
+        application.setDefaultProperties(Map.of(
+                "management.endpoints.web.exposure.include", "health,info,metrics,prometheus",
+                // Refresh ticks and profile catch-up run for minutes; lease heartbeats need a thread of their own
+                "spring.task.scheduling.pool.size", "3",
+                // Build the EntityManagerFactory in the background; repositories wait for it on first use
+                "spring.data.jpa.repositories.bootstrap-mode", "deferred"));
+        application.run(args);
     }
 
     @Bean
-    public CommandLineRunner runMyStartupLogic() {
+    @Profile("offline")
+    public CommandLineRunner runOffline(SnapshotStore snapshotStore) {
         return args -> {
-//            parseDocument.getAllCongressMembers().forEach(System.out::println);
-//            parseDocument.getAllParliamentaryPeriods().forEach(System.out::println);
-            parseDocument.getAllParliamentaryPeriods().forEach(scf::saveWebpageForParliamentaryPeriod);
+            List<ParliamentaryPeriod> periods = snapshotStore.findPeriods();
+            System.out.println("Offline mode: " + periods.size() + " parliamentary periods in the embedded store");
+            periods.stream()
+                    .filter(ParliamentaryPeriod::isActive)
+                    .forEach(period -> System.out.println("  → " + period.name() + ": "
+                            + snapshotStore.findMembers(period.name()).map(List::size).orElse(0) + " members"));
         };
     }
 }
@@ -0,0 +1,200 @@
+package org.data.extractor.configuration;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.NetworkInterceptor;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.http.Filter;
+import org.openqa.selenium.remote.http.HttpResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Lean browsing: blocks the requests the crawler never reads (images, stylesheets, fonts,
+ * third-party scripts) through DevTools request interception, and counts what was blocked.
+ * <p>
+ * Rules apply per resource type, guessed from the URL extension, and per host. Bytes are the
+ * encoded (on-the-wire) lengths Chrome reports in {@code Network.loadingFinished}, so chunked
+ * and compressed responses count too.
+ */
+@Component
+@Lazy
+public class BrowserAssetBlocker {
+
+    private static final Map<String, String> TYPE_BY_EXTENSION = Map.ofEntries(
+            Map.entry("png", "image"), Map.entry("jpg", "image"), Map.entry("jpeg", "image"),
+            Map.entry("gif", "image"), Map.entry("webp", "image"), Map.entry("svg", "image"),
+            Map.entry("ico", "image"), Map.entry("bmp", "image"),
+            Map.entry("css", "stylesheet"),
+            Map.entry("woff", "font"), Map.entry("woff2", "font"), Map.entry("ttf", "font"),
+            Map.entry("otf", "font"), Map.entry("eot", "font"),
+            Map.entry("mp4", "media"), Map.entry("webm", "media"), Map.entry("mp3", "media"),
+            Map.entry("js", "script"), Map.entry("mjs", "script"));
+
+    private final boolean enabled;
+    private final Set<String> blockedTypes;
+    private final List<String> blockedHosts;
+    private final boolean blockThirdPartyScripts;
+    private final String siteHost;
+
+    public BrowserAssetBlocker(@Value("${selenium.lean.enabled:true}") boolean enabled,
+                               @Value("${selenium.lean.blocked-types:image,stylesheet,font,media}") String blockedTypes,
+                               @Value("${selenium.lean.blocked-hosts:}") String blockedHosts,
+                               @Value("${selenium.lean.block-third-party-scripts:true}") boolean blockThirdPartyScripts,
+                               @Value("${congreso.base-url}") String baseUrl) {
+        this.enabled = enabled;
+        this.blockedTypes = Set.copyOf(split(blockedTypes));
+        this.blockedHosts = split(blockedHosts);
+        this.blockThirdPartyScripts = blockThirdPartyScripts;
+        this.siteHost = host(baseUrl);
+    }
+
+    // Raw CDP event, so no DevTools version has to match the installed Chrome
+    private static final Event<Map<String, Object>> LOADING_FINISHED =
+            new Event<>("Network.loadingFinished", input -> input.read(Json.MAP_TYPE));
+
+    /**
+     * Requests blocked and bytes let through on one page
+     */
+    public record PageStats(Map<String, Long> blockedByType, long bytesTransferred) {}
+
+    /**
+     * Interception attached to one browser session; closing it detaches the rules
+     */
+    public static final class Interception implements AutoCloseable {
+
+        static final Interception NONE = new Interception();
+
+        private final Map<String, LongAdder> blocked = new ConcurrentHashMap<>();
+        private final AtomicLong bytesTransferred = new AtomicLong();
+        private NetworkInterceptor interceptor;
+
+        /**
+         * Counters since the previous call, reset for the next page
+         */
+        public PageStats drain() {
+            Map<String, Long> counts = blocked.entrySet().stream()
+                    .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, e -> e.getValue().sumThenReset()));
+            return new PageStats(counts, bytesTransferred.getAndSet(0));
+        }
+
+        @Override
+        public void close() {
+            if (interceptor != null) {
+                try {
+                    interceptor.close();
+                } catch (WebDriverException e) {
+                    // The session is already gone
+                }
+            }
+        }
+    }
+
+    /**
+     * Install the blocking rules on a fresh driver. Drivers without DevTools run unfiltered.
+     */
+    public Interception attach(WebDriver driver) {
+        if (!enabled || !(driver instanceof HasDevTools)) {
+            return Interception.NONE;
+        }
+        Interception interception = new Interception();
+        Filter filter = next -> request -> {
+            String type = blockedType(request.getUri());
+            if (type != null) {
+                interception.blocked.computeIfAbsent(type, t -> new LongAdder()).increment();
+                return new HttpResponse().setStatus(204);
+            }
+            return next.execute(request);
+        };
+        try {
+            interception.interceptor = new NetworkInterceptor(driver, filter);
+        } catch (WebDriverException e) {
+            System.out.println("  ✗ Request blocking unavailable, loading all assets: " + e.getMessage());
+            return Interception.NONE;
+        }
+        countTransferredBytes(((HasDevTools) driver).getDevTools(), interception);
+        return interception;
+    }
+
+    private static void countTransferredBytes(DevTools devTools, Interception interception) {
+        try {
+            devTools.createSessionIfThereIsNotOne();
+            devTools.send(new Command<Void>("Network.enable", Map.of()));
+            devTools.addListener(LOADING_FINISHED, event -> {
+                if (event.get("encodedDataLength") instanceof Number length) {
+                    interception.bytesTransferred.addAndGet(length.longValue());
+                }
+            });
+        } catch (WebDriverException e) {
+            System.out.println("  ✗ Transferred bytes not available: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Type label when the request must be blocked, otherwise {@code null}
+     */
+    String blockedType(String url) {
+        String host = host(url);
+        if (host != null && blockedHosts.stream().anyMatch(h -> host.equals(h) || host.endsWith("." + h))) {
+            return "host";
+        }
+        String type = resourceType(url);
+        if (blockedTypes.contains(type)) {
+            return type;
+        }
+        if (blockThirdPartyScripts && "script".equals(type) && host != null && !host.equals(siteHost)) {
+            return "third-party-script";
+        }
+        return null;
+    }
+
+    private static String resourceType(String url) {
+        String path;
+        try {
+            path = URI.create(url).getPath();
+        } catch (IllegalArgumentException e) {
+            return "other";
+        }
+        if (path == null) {
+            return "other";
+        }
+        int dot = path.lastIndexOf('.');
+        if (dot < 0 || dot < path.lastIndexOf('/')) {
+            return "other";
+        }
+        return TYPE_BY_EXTENSION.getOrDefault(path.substring(dot + 1).toLowerCase(Locale.ROOT), "other");
+    }
+
+    private static String host(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host == null ? null : host.toLowerCase(Locale.ROOT);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static List<String> split(String values) {
+        return Arrays.stream(values.split(","))
+                .map(String::trim)
+                .map(v -> v.toLowerCase(Locale.ROOT))
+                .filter(v -> !v.isEmpty())
+                .toList();
+    }
+}
@@ -13,6 +13,10 @@ public class HttpClientConfiguration {
     @Bean
     public HttpClient httpClient() {
         // Configure and return a single, reusable instance
-        return HttpClient.newHttpClient();
+        // HttpPageClient follows redirects itself, applying the cookies of its per-fetch Session on every hop.
+        // No cookie handler here: concurrent periods must not share a server session
+        return HttpClient.newBuilder()
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
     }
 }
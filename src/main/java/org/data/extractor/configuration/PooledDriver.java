@@ -0,0 +1,67 @@
+package org.data.extractor.configuration;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A WebDriver checked out from the {@link SeleniumDriverManager} pool, with its wait and usage counter.
+ * A warm driver still shows the member page, so the next period only needs a dropdown switch.
+ */
+public final class PooledDriver {
+
+    private final WebDriver driver;
+    private final WebDriverWait wait;
+    private final BrowserAssetBlocker.Interception interception;
+    private final AtomicInteger pagesServed = new AtomicInteger();
+    private volatile boolean warm;
+
+    PooledDriver(WebDriver driver, WebDriverWait wait, BrowserAssetBlocker.Interception interception) {
+        this.driver = driver;
+        this.wait = wait;
+        this.interception = interception;
+    }
+
+    public WebDriver driver() {
+        return driver;
+    }
+
+    public WebDriverWait waiter() {
+        return wait;
+    }
+
+    /**
+     * Requests blocked and bytes transferred since the previous call
+     */
+    public BrowserAssetBlocker.PageStats drainPageStats() {
+        return interception.drain();
+    }
+
+    BrowserAssetBlocker.Interception interception() {
+        return interception;
+    }
+
+    public int pagesServed() {
+        return pagesServed.get();
+    }
+
+    int markPageServed() {
+        return pagesServed.incrementAndGet();
+    }
+
+    public boolean isWarm() {
+        return warm;
+    }
+
+    public void markWarm() {
+        warm = true;
+    }
+
+    /**
+     * The page is in an unknown state; the next user must load the base page again
+     */
+    public void markCold() {
+        warm = false;
+    }
+}
@@ -1,9 +1,11 @@
 package org.data.extractor.configuration;
 
+import org.openqa.selenium.PageLoadStrategy;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Scope;
@@ -11,10 +13,14 @@ import org.springframework.stereotype.Component;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.Map;
 
 @Configuration
 public class SeleniumConfiguration {
 
+    @Value("${selenium.lean.enabled:true}")
+    private boolean lean;
+
     @Bean
     @Scope("prototype")
     public WebDriver webDriver() {
@@ -29,6 +35,12 @@ public class SeleniumConfiguration {
         options.addArguments("--window-size=1920,1080");
         options.addArguments("--user-agent=Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36");
 //        options.addArguments("--headless=new");
+        if (lean) {
+            // Only the HTML table matters: hand control back once the DOM is parsed and skip image decoding
+            options.setPageLoadStrategy(PageLoadStrategy.EAGER);
+            options.addArguments("--blink-settings=imagesEnabled=false");
+            options.setExperimentalOption("prefs", Map.of("profile.managed_default_content_settings.images", 2));
+        }
         WebDriver driver = new ChromeDriver(options);
         driver.manage().window().maximize(); // Optional: Maximize window
         return driver;
@@ -1,21 +1,63 @@
 package org.data.extractor.configuration;
 
 import jakarta.annotation.PreDestroy;
+import org.data.extractor.metrics.ScraperMetrics;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Service
+@Lazy
 public class SeleniumDriverManager {
     private final ApplicationContext context;
-    private final List<WebDriver> activeDrivers = new ArrayList<>();
+    private final BrowserAssetBlocker assetBlocker;
+    private final Set<WebDriver> activeDrivers = ConcurrentHashMap.newKeySet();
 
-    public SeleniumDriverManager(ApplicationContext context) {
+    // Bounded pool: the semaphore caps checked-out drivers, idle ones wait in the queue
+    private final int poolSize;
+    private final int maxPagesPerDriver;
+    private final long checkoutTimeoutSeconds;
+    private final long maxHeapBytes;
+    private final Semaphore permits;
+    private final BlockingQueue<PooledDriver> idleDrivers = new LinkedBlockingQueue<>();
+    private final AtomicLong recycledForPages = new AtomicLong();
+    private final AtomicLong recycledForMemory = new AtomicLong();
+    private final AtomicLong recycledUnhealthy = new AtomicLong();
+
+    public SeleniumDriverManager(ApplicationContext context,
+                                 BrowserAssetBlocker assetBlocker,
+                                 ScraperMetrics metrics,
+                                 @Value("${selenium.pool.size:4}") int poolSize,
+                                 @Value("${selenium.pool.max-pages-per-driver:25}") int maxPagesPerDriver,
+                                 @Value("${selenium.pool.checkout-timeout-seconds:300}") long checkoutTimeoutSeconds,
+                                 @Value("${selenium.pool.max-js-heap-mb:512}") long maxHeapMb) {
         this.context = context;
+        this.assetBlocker = assetBlocker;
+        this.poolSize = poolSize;
+        this.maxPagesPerDriver = maxPagesPerDriver;
+        this.checkoutTimeoutSeconds = checkoutTimeoutSeconds;
+        this.maxHeapBytes = maxHeapMb * 1024 * 1024;
+        this.permits = new Semaphore(poolSize, true);
+
+        metrics.gauge("congreso.webdriver.drivers", "WebDrivers checked out of the pool", this, m -> m.poolSize - m.permits.availablePermits(), "state", "active");
+        metrics.gauge("congreso.webdriver.drivers", "WebDrivers waiting in the pool", this, m -> m.idleDrivers.size(), "state", "idle");
+        metrics.gauge("congreso.webdriver.open", "Open browser sessions", this, m -> m.activeDrivers.size());
+        metrics.counter("congreso.webdriver.recycled", "Drivers closed by the pool", this, m -> m.recycledForPages.get(), "reason", "pages");
+        metrics.counter("congreso.webdriver.recycled", "Drivers closed by the pool", this, m -> m.recycledForMemory.get(), "reason", "memory");
+        metrics.counter("congreso.webdriver.recycled", "Drivers closed by the pool", this, m -> m.recycledUnhealthy.get(), "reason", "unhealthy");
     }
 
     /**
@@ -34,13 +76,106 @@ public class SeleniumDriverManager {
         return context.getBean(WebDriverWait.class, driver);
     }
 
+    /**
+     * Check out a driver from the pool, blocking while all of them are in use
+     */
+    public PooledDriver checkout() throws InterruptedException {
+        if (!permits.tryAcquire(checkoutTimeoutSeconds, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("No WebDriver available after " + checkoutTimeoutSeconds + "s");
+        }
+        try {
+            PooledDriver pooled;
+            while ((pooled = idleDrivers.poll()) != null) {
+                if (isHealthy(pooled.driver())) {
+                    return pooled;
+                }
+                System.out.println("  ✗ Discarding unhealthy WebDriver");
+                retire(pooled);
+            }
+            WebDriver driver = getDriver();
+            return new PooledDriver(driver, getWait(driver), assetBlocker.attach(driver));
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Return a driver to the pool, recycling it once it served enough pages, outgrew the
+     * memory threshold or stopped responding. A kept driver stays on its page, warm for reuse.
+     */
+    public void release(PooledDriver pooled) {
+        try {
+            int served = pooled.markPageServed();
+            if (served >= maxPagesPerDriver) {
+                recycledForPages.incrementAndGet();
+                retire(pooled);
+            } else if (!isHealthy(pooled.driver())) {
+                recycledUnhealthy.incrementAndGet();
+                retire(pooled);
+            } else if (jsHeapBytes(pooled.driver()) > maxHeapBytes) {
+                System.out.println("  → Recycling WebDriver over the " + (maxHeapBytes / (1024 * 1024)) + " MB heap threshold");
+                recycledForMemory.incrementAndGet();
+                retire(pooled);
+            } else {
+                idleDrivers.offer(pooled);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * JavaScript heap in use by the current page, as Chrome reports it; 0 when unavailable
+     */
+    private static long jsHeapBytes(WebDriver driver) {
+        if (!(driver instanceof JavascriptExecutor js)) {
+            return 0;
+        }
+        try {
+            Object used = js.executeScript("return window.performance && performance.memory ? performance.memory.usedJSHeapSize : 0;");
+            return used instanceof Number number ? number.longValue() : 0;
+        } catch (WebDriverException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * A driver is healthy while its browser session still answers
+     */
+    public boolean isHealthy(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    /**
+     * Detach the request interception and close the pooled driver
+     */
+    private void retire(PooledDriver pooled) {
+        pooled.interception().close();
+        closeDriver(pooled.driver());
+    }
+
     /**
      * Close a specific driver
      */
     public void closeDriver(WebDriver driver) {
         if (driver != null) {
-            driver.quit();
-            activeDrivers.remove(driver);
+            try {
+                driver.quit();
+            } catch (WebDriverException e) {
+                System.out.println("  ✗ Error closing WebDriver: " + e.getMessage());
+            } finally {
+                activeDrivers.remove(driver);
+            }
         }
     }
 
@@ -49,6 +184,7 @@ public class SeleniumDriverManager {
      */
     @PreDestroy
     public void cleanup() {
+        idleDrivers.clear();
         for (WebDriver driver : activeDrivers) {
             try {
                 driver.quit();
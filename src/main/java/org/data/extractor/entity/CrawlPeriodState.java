@@ -0,0 +1,65 @@
+package org.data.extractor.entity;
+
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.Instant;
+
+
+/**
+ * Checkpoint of one period within a crawl run
+ */
+@Entity
+@Table(name = "crawl_period_state",
+        uniqueConstraints = @UniqueConstraint(name = "uq_crawl_period_state", columnNames = {"run_id", "period_name"}),
+        indexes = @Index(name = "idx_crawl_period_state_run", columnList = "run_id, state"))
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class CrawlPeriodState {
+
+    /**
+     * PENDING → FETCHING → PARSED → PERSISTED, or FAILED from any step (retried with backoff)
+     */
+    public enum State { PENDING, FETCHING, PARSED, PERSISTED, FAILED }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    @Column(name = "period_name", nullable = false)
+    private String periodName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "state", nullable = false, length = 16)
+    private State state;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_time")
+    private Instant nextAttemptTime;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    /**
+     * Worker currently holding the period; written only through the lease queries of CrawlPeriodStateRepository
+     */
+    @Column(name = "lease_owner", insertable = false, updatable = false)
+    private String leaseOwner;
+
+    @Column(name = "lease_expires_at", insertable = false, updatable = false)
+    private Instant leaseExpiresAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_time")
+    private Instant updatedTime;
+}
@@ -0,0 +1,39 @@
+package org.data.extractor.entity;
+
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.Instant;
+
+
+/**
+ * One crawl over the period list; an unfinished run is resumed on the next start
+ */
+@Entity
+@Table(name = "crawl_run")
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class CrawlRun {
+
+    public enum Status { RUNNING, COMPLETED, FAILED }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 16)
+    private Status status;
+
+    @CreationTimestamp
+    @Column(name = "started_time", nullable = false, updatable = false)
+    private Instant startedTime;
+
+    @Column(name = "finished_time")
+    private Instant finishedTime;
+}
@@ -0,0 +1,39 @@
+package org.data.extractor.entity;
+
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.Instant;
+
+
+/**
+ * Compressed page content, stored once per distinct SHA-256 content hash
+ */
+@Entity
+@Table(name = "page_content")
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class PageContent {
+
+    @Id
+    @Column(name = "content_hash", length = 64, nullable = false, updatable = false)
+    private String contentHash;
+
+    @Column(name = "codec", nullable = false, length = 16)
+    private String codec;
+
+    @Column(name = "raw_length", nullable = false)
+    private Integer rawLength;
+
+    @Column(name = "compressed", nullable = false)
+    private byte[] compressed;
+
+    @CreationTimestamp
+    @Column(name = "inserted_time", nullable = false, updatable = false)
+    private Instant insertedTime;
+}
@@ -0,0 +1,46 @@
+package org.data.extractor.entity;
+
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.Instant;
+
+
+/**
+ * Normalised extract of a stored page: the member table rows and the period dropdown,
+ * as compact JSON, keyed by the content hash of the page they were taken from
+ */
+@Entity
+@Table(name = "page_fragment")
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class PageFragment {
+
+    @Id
+    @Column(name = "content_hash", length = 64, nullable = false, updatable = false)
+    private String contentHash;
+
+    @Column(name = "format_version", nullable = false)
+    private int formatVersion;
+
+    /**
+     * NULL when the page had no member table
+     */
+    @Column(name = "member_count")
+    private Integer memberCount;
+
+    @Column(name = "members", columnDefinition = "TEXT")
+    private String members;
+
+    @Column(name = "period_options", columnDefinition = "TEXT")
+    private String periodOptions;
+
+    @CreationTimestamp
+    @Column(name = "inserted_time", nullable = false, updatable = false)
+    private Instant insertedTime;
+}
@@ -0,0 +1,40 @@
+package org.data.extractor.entity;
+
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+
+/**
+ * Refresh schedule of one period, adapted after every check
+ */
+@Entity
+@Table(name = "period_refresh")
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class PeriodRefresh {
+
+    @Id
+    @Column(name = "period_name", nullable = false, updatable = false)
+    private String periodName;
+
+    @Column(name = "interval_seconds", nullable = false)
+    private long intervalSeconds;
+
+    @Column(name = "next_check_time", nullable = false)
+    private Instant nextCheckTime;
+
+    @Column(name = "last_checked_time")
+    private Instant lastCheckedTime;
+
+    @Column(name = "last_changed_time")
+    private Instant lastChangedTime;
+
+    @Column(name = "unchanged_checks", nullable = false)
+    private int unchangedChecks;
+}
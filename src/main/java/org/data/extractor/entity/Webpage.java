@@ -9,7 +9,9 @@ import java.time.Instant;
 
 
 @Entity
-@Table(name = "webpage")
+@Table(name = "webpage", indexes = {
+        @Index(name = "idx_webpage_period_inserted", columnList = "parliamentary_period, inserted_time DESC")
+})
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -28,7 +30,19 @@ public class Webpage {
     @Column(name = "inserted_time", nullable = false, updatable = false)
     private Instant insertedTime;
 
+    // Reference into page_content; snapshots with identical HTML share one stored copy
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    // HTTP validators of the fetch, sent back as If-None-Match / If-Modified-Since
+    @Column(name = "etag")
+    private String etag;
+
+    @Column(name = "last_modified")
+    private String lastModified;
+
+    // Legacy inline HTML, only set on rows written before content-addressed storage
     @Lob
-    @Column(name = "page_blob", nullable = false)
+    @Column(name = "page_blob")
     private String pageBlob;
 }
@@ -0,0 +1,170 @@
+package org.data.extractor.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Meters for each crawl stage: fetch, browser, parse, persist, cache and driver pool.
+ * Exposed through Actuator at /actuator/prometheus.
+ */
+@Component
+public class ScraperMetrics {
+
+    private final MeterRegistry registry;
+
+    public ScraperMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Metrics backed by a private registry, for code running outside Spring (benchmarks, tools)
+     */
+    public static ScraperMetrics standalone() {
+        return new ScraperMetrics(new SimpleMeterRegistry());
+    }
+
+    // ---- HTTP ---------------------------------------------------------------
+
+    public void httpFetch(Duration duration, int status, long transferredBytes) {
+        Timer.builder("congreso.http.fetch")
+                .description("HTTP page fetch time")
+                .tag("status", String.valueOf(status))
+                .register(registry)
+                .record(duration);
+        DistributionSummary.builder("congreso.http.bytes")
+                .description("Bytes transferred per HTTP fetch, before decompression")
+                .baseUnit("bytes")
+                .register(registry)
+                .record(transferredBytes);
+    }
+
+    // ---- Selenium -------------------------------------------------------------
+
+    public <T> T seleniumPageLoad(Supplier<T> load) {
+        return Timer.builder("congreso.selenium.page.load")
+                .description("Browser navigation to the base page until the table is present")
+                .register(registry)
+                .record(load);
+    }
+
+    public void seleniumWait(String signal, Duration tableReplaced, Duration networkIdle) {
+        Timer.builder("congreso.selenium.wait")
+                .description("Wait for the member table to be replaced after a period switch")
+                .tag("phase", "table-replaced")
+                .tag("signal", signal)
+                .register(registry)
+                .record(tableReplaced);
+        Timer.builder("congreso.selenium.wait")
+                .description("Wait for the member table to be replaced after a period switch")
+                .tag("phase", "network-idle")
+                .tag("signal", signal)
+                .register(registry)
+                .record(networkIdle);
+    }
+
+    public void seleniumAssets(Map<String, Long> blockedByType, long bytesTransferred) {
+        long blocked = 0;
+        for (Map.Entry<String, Long> entry : blockedByType.entrySet()) {
+            Counter.builder("congreso.selenium.requests.blocked")
+                    .description("Browser requests blocked by the lean browsing rules")
+                    .tag("type", entry.getKey())
+                    .register(registry)
+                    .increment(entry.getValue());
+            blocked += entry.getValue();
+        }
+        DistributionSummary.builder("congreso.selenium.page.blocked")
+                .description("Browser requests blocked per page")
+                .register(registry)
+                .record(blocked);
+        DistributionSummary.builder("congreso.selenium.page.bytes")
+                .description("Bytes the browser downloaded per page, encoded as sent over the wire")
+                .baseUnit("bytes")
+                .register(registry)
+                .record(bytesTransferred);
+    }
+
+    // ---- Parsing --------------------------------------------------------------
+
+    public <T> T parse(String kind, Supplier<T> parser) {
+        return Timer.builder("congreso.parse")
+                .description("HTML parse and extraction time")
+                .tag("kind", kind)
+                .register(registry)
+                .record(parser);
+    }
+
+    public void rowsExtracted(String period, int rows) {
+        DistributionSummary.builder("congreso.rows.extracted")
+                .description("Member rows extracted per period")
+                .tag("period", period)
+                .register(registry)
+                .record(rows);
+    }
+
+    // ---- Persistence ----------------------------------------------------------
+
+    public <T> T dbSave(String entity, Supplier<T> save) {
+        return Timer.builder("congreso.db.save")
+                .description("Database save time")
+                .tag("entity", entity)
+                .register(registry)
+                .record(save);
+    }
+
+    public void blobSize(long rawBytes, long storedBytes, boolean deduplicated) {
+        DistributionSummary.builder("congreso.db.blob.size")
+                .description("Page size before compression")
+                .tag("kind", "raw")
+                .baseUnit("bytes")
+                .register(registry)
+                .record(rawBytes);
+        DistributionSummary.builder("congreso.db.blob.size")
+                .description("Bytes written to page_content (0 when the content already existed)")
+                .tag("kind", "stored")
+                .baseUnit("bytes")
+                .register(registry)
+                .record(deduplicated ? 0 : storedBytes);
+    }
+
+    // ---- Export ---------------------------------------------------------------
+
+    public void export(String format, Duration duration, long rows) {
+        Timer.builder("congreso.export")
+                .description("Time to stream all members to an export file")
+                .tag("format", format)
+                .register(registry)
+                .record(duration);
+        DistributionSummary.builder("congreso.export.rows")
+                .description("Member rows written per export")
+                .tag("format", format)
+                .register(registry)
+                .record(rows);
+    }
+
+    // ---- Registrations for state owned by other components -----------------------
+
+    public <T> void counter(String name, String description, T owner, ToDoubleFunction<T> count, String... tags) {
+        FunctionCounter.builder(name, owner, count)
+                .description(description)
+                .tags(tags)
+                .register(registry);
+    }
+
+    public <T> void gauge(String name, String description, T owner, ToDoubleFunction<T> value, String... tags) {
+        Gauge.builder(name, owner, value)
+                .description(description)
+                .tags(tags)
+                .register(registry);
+    }
+}
@@ -1,8 +1,30 @@
 package org.data.extractor.pojo;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
 public record CongressMember(
         String name,
         String parliamentaryGroup,
         String email,
         String profileUrl
-) {}
+) {
+
+    /**
+     * SHA-256 over all fields; two rows with the same fingerprint carry the same data
+     */
+    public String fingerprint() {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String field : new String[]{name, parliamentaryGroup, email, profileUrl}) {
+                digest.update((field == null ? "" : field).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0x1f); // unit separator, keeps ("ab", "c") apart from ("a", "bc")
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
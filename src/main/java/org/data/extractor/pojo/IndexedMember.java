@@ -0,0 +1,17 @@
+package org.data.extractor.pojo;
+
+/**
+ * A member as served by the read API: the extracted row plus the period it belongs to
+ */
+public record IndexedMember(
+        String periodName,
+        String name,
+        String parliamentaryGroup,
+        String email,
+        String profileUrl
+) {
+
+    public static IndexedMember of(String periodName, CongressMember member) {
+        return new IndexedMember(periodName, member.name(), member.parliamentaryGroup(), member.email(), member.profileUrl());
+    }
+}
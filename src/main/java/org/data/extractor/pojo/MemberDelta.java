@@ -0,0 +1,37 @@
+package org.data.extractor.pojo;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Differences between the stored member set of a period and a newly extracted one
+ */
+public record MemberDelta(
+        String periodName,
+        List<CongressMember> inserted,
+        List<CongressMember> updated,
+        List<String> removed
+) {
+
+    public boolean isEmpty() {
+        return inserted.isEmpty() && updated.isEmpty() && removed.isEmpty();
+    }
+
+    /**
+     * Members whose row is written by this delta
+     */
+    public List<CongressMember> changed() {
+        if (updated.isEmpty()) {
+            return inserted;
+        }
+        if (inserted.isEmpty()) {
+            return updated;
+        }
+        return Stream.concat(inserted.stream(), updated.stream()).toList();
+    }
+
+    @Override
+    public String toString() {
+        return periodName + ": +" + inserted.size() + " ~" + updated.size() + " -" + removed.size();
+    }
+}
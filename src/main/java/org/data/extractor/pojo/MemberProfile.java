@@ -0,0 +1,15 @@
+package org.data.extractor.pojo;
+
+import java.time.LocalDate;
+
+/**
+ * Details only available on a member's profile page
+ */
+public record MemberProfile(
+        String profileUrl,
+        String electoralDistrict,
+        String gender,
+        String status,
+        LocalDate termStartDate,
+        LocalDate termEndDate
+) {}
@@ -1,9 +1,37 @@
 package org.data.extractor.pojo;
 
+import java.time.Year;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 public record ParliamentaryPeriod(
         String name,
         int startYear,
         int endYear,
         boolean isActive
 ) {
+
+    // Pattern to extract year ranges like "2021 - 2026" or "1992 -1995"
+    private static final Pattern YEAR_PATTERN = Pattern.compile("(\\d{4})\\s*-\\s*(\\d{4})");
+
+    /**
+     * Parse a period string like "Parlamentario 2021 - 2026" into a ParliamentaryPeriod
+     */
+    public static Optional<ParliamentaryPeriod> fromName(String periodText) {
+        Matcher matcher = YEAR_PATTERN.matcher(periodText);
+
+        if (matcher.find()) {
+            int startYear = Integer.parseInt(matcher.group(1));
+            int endYear = Integer.parseInt(matcher.group(2));
+
+            // A period is active until the year its successor starts
+            int currentYear = Year.now().getValue();
+            boolean isActive = startYear <= currentYear && currentYear < endYear;
+
+            return Optional.of(new ParliamentaryPeriod(periodText.trim(), startYear, endYear, isActive));
+        }
+
+        return Optional.empty();
+    }
 }
@@ -0,0 +1,9 @@
+package org.data.extractor.pojo;
+
+/**
+ * Name search result; score is 1.0 for a prefix match, otherwise the trigram similarity
+ */
+public record SearchHit(
+        IndexedMember member,
+        double score
+) {}
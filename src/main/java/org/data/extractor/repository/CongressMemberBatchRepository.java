@@ -0,0 +1,283 @@
+package org.data.extractor.repository;
+
+
+import lombok.RequiredArgsConstructor;
+import org.data.extractor.pojo.CongressMember;
+import org.data.extractor.pojo.MemberProfile;
+import org.data.extractor.pojo.ParliamentaryPeriod;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Set-based writes into the parliamentary_periods / parliamentary_groups / congress_members
+ * schema from create.sql. Callers are expected to run these inside one transaction.
+ */
+@Repository
+@Profile("!offline")
+@RequiredArgsConstructor
+public class CongressMemberBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+
+    private static final String UPSERT_PERIOD = """
+            INSERT INTO parliamentary_periods (period_name, start_year, end_year, is_active)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (period_name)
+            DO UPDATE SET
+                start_year = EXCLUDED.start_year,
+                end_year = EXCLUDED.end_year,
+                is_active = EXCLUDED.is_active
+            WHERE (parliamentary_periods.start_year, parliamentary_periods.end_year, parliamentary_periods.is_active)
+                IS DISTINCT FROM (EXCLUDED.start_year, EXCLUDED.end_year, EXCLUDED.is_active)
+            RETURNING period_id
+            """;
+
+    private static final String SELECT_PERIOD_ID = """
+            SELECT period_id FROM parliamentary_periods WHERE period_name = ?
+            """;
+
+    /**
+     * Insert or update the period row, leaving it untouched when nothing changed
+     */
+    public int upsertPeriod(ParliamentaryPeriod period) {
+        List<Integer> ids = jdbcTemplate.queryForList(UPSERT_PERIOD, Integer.class,
+                period.name(), period.startYear(), period.endYear(), period.isActive());
+        if (ids.isEmpty()) {
+            ids = jdbcTemplate.queryForList(SELECT_PERIOD_ID, Integer.class, period.name());
+        }
+        if (ids.isEmpty()) {
+            throw new IllegalStateException("No id returned for period " + period.name());
+        }
+        return ids.getFirst();
+    }
+
+
+    private static final String SELECT_FINGERPRINTS = """
+            SELECT full_name, row_fingerprint
+            FROM congress_members
+            WHERE period_id = ?
+            """;
+
+    /**
+     * Stored row fingerprints of the period, by full name
+     */
+    public Map<String, String> loadFingerprints(int periodId) {
+        Map<String, String> fingerprints = new HashMap<>();
+        jdbcTemplate.query(SELECT_FINGERPRINTS, rs -> {
+            // Rows written before fingerprints existed count as changed
+            fingerprints.put(rs.getString("full_name"), rs.getString("row_fingerprint") == null ? "" : rs.getString("row_fingerprint"));
+        }, periodId);
+        return fingerprints;
+    }
+
+
+    private static final String DELETE_MEMBERS = """
+            DELETE FROM congress_members
+            WHERE period_id = ?
+              AND full_name = ANY(?::varchar[])
+            """;
+
+    public int deleteMembers(int periodId, Collection<String> fullNames) {
+        if (fullNames.isEmpty()) {
+            return 0;
+        }
+        String[] names = fullNames.toArray(String[]::new);
+        return jdbcTemplate.update(con -> {
+            var ps = con.prepareStatement(DELETE_MEMBERS);
+            ps.setInt(1, periodId);
+            ps.setArray(2, con.createArrayOf("varchar", names));
+            return ps;
+        });
+    }
+
+
+    private static final String INSERT_GROUPS = """
+            INSERT INTO parliamentary_groups (group_name)
+            SELECT DISTINCT unnest(?::varchar[])
+            ON CONFLICT (group_name) DO NOTHING
+            """;
+
+    private static final String SELECT_GROUP_IDS = """
+            SELECT group_id, group_name
+            FROM parliamentary_groups
+            WHERE group_name = ANY(?::varchar[])
+            """;
+
+    /**
+     * Insert missing groups and resolve all their ids with one statement each
+     */
+    public Map<String, Integer> resolveGroupIds(Collection<String> groupNames) {
+        Map<String, Integer> ids = new HashMap<>();
+        if (groupNames.isEmpty()) {
+            return ids;
+        }
+        String[] names = groupNames.toArray(String[]::new);
+
+        jdbcTemplate.update(con -> {
+            var ps = con.prepareStatement(INSERT_GROUPS);
+            ps.setArray(1, con.createArrayOf("varchar", names));
+            return ps;
+        });
+
+        jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement(SELECT_GROUP_IDS);
+            ps.setArray(1, con.createArrayOf("varchar", names));
+            return ps;
+        }, rs -> {
+            ids.put(rs.getString("group_name"), rs.getInt("group_id"));
+        });
+        return ids;
+    }
+
+
+    private static final String UPSERT_MEMBER = """
+            INSERT INTO congress_members
+                (period_id, group_id, full_name, first_name, last_name, email, profile_url, row_fingerprint, scraped_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP)
+            ON CONFLICT (period_id, full_name)
+            DO UPDATE SET
+                group_id = EXCLUDED.group_id,
+                first_name = EXCLUDED.first_name,
+                last_name = EXCLUDED.last_name,
+                email = EXCLUDED.email,
+                profile_url = EXCLUDED.profile_url,
+                row_fingerprint = EXCLUDED.row_fingerprint,
+                scraped_at = EXCLUDED.scraped_at
+            """;
+
+    /**
+     * Upsert all members of a period as one JDBC batch
+     */
+    public int[] upsertMembers(int periodId, List<CongressMember> members, Map<String, Integer> groupIds) {
+        List<Object[]> rows = new ArrayList<>(members.size());
+        for (CongressMember member : members) {
+            String[] names = splitName(member.name());
+            rows.add(new Object[]{
+                    periodId,
+                    groupIds.get(member.parliamentaryGroup()),
+                    member.name(),
+                    names[1],
+                    names[0],
+                    member.email().isEmpty() ? null : member.email(),
+                    member.profileUrl(),
+                    member.fingerprint()
+            });
+        }
+        return jdbcTemplate.batchUpdate(UPSERT_MEMBER, rows);
+    }
+
+    private static final String UPDATE_PROFILE = """
+            UPDATE congress_members cm
+            SET electoral_district = COALESCE(?, cm.electoral_district),
+                gender = COALESCE(?, cm.gender),
+                status = COALESCE(?, cm.status),
+                is_active = COALESCE(?, cm.is_active),
+                term_start_date = COALESCE(?, cm.term_start_date),
+                term_end_date = COALESCE(?, cm.term_end_date),
+                profile_fetched_time = CURRENT_TIMESTAMP
+            FROM parliamentary_periods pp
+            WHERE cm.period_id = pp.period_id
+              AND pp.period_name = ?
+              AND cm.profile_url = ?
+            """;
+
+    /**
+     * Apply profile details to already stored members, as one JDBC batch
+     */
+    public int[] updateProfiles(String periodName, List<MemberProfile> profiles) {
+        List<Object[]> rows = new ArrayList<>(profiles.size());
+        for (MemberProfile profile : profiles) {
+            rows.add(new Object[]{
+                    profile.electoralDistrict(),
+                    profile.gender(),
+                    profile.status(),
+                    profile.status() == null ? null : profile.status().startsWith("activ") || profile.status().startsWith("en ejercicio"),
+                    profile.termStartDate(),
+                    profile.termEndDate(),
+                    periodName,
+                    profile.profileUrl()
+            });
+        }
+        return jdbcTemplate.batchUpdate(UPDATE_PROFILE, rows);
+    }
+
+    private static final String SELECT_PERIODS = """
+            SELECT period_name, start_year, end_year, is_active
+            FROM parliamentary_periods
+            ORDER BY start_year DESC
+            """;
+
+    public List<ParliamentaryPeriod> loadPeriods() {
+        return jdbcTemplate.query(SELECT_PERIODS, (rs, rowNum) -> new ParliamentaryPeriod(
+                rs.getString("period_name"),
+                rs.getInt("start_year"),
+                rs.getInt("end_year"),
+                rs.getBoolean("is_active")));
+    }
+
+
+    private static final String SELECT_MEMBERS = """
+            SELECT cm.full_name, pg.group_name, cm.email, cm.profile_url
+            FROM congress_members cm
+            JOIN parliamentary_periods pp ON pp.period_id = cm.period_id
+            LEFT JOIN parliamentary_groups pg ON pg.group_id = cm.group_id
+            WHERE pp.period_name = ?
+            ORDER BY cm.full_name
+            """;
+
+    /**
+     * Stored members of the period, in the shape they were extracted
+     */
+    public List<CongressMember> loadMembers(String periodName) {
+        return jdbcTemplate.query(SELECT_MEMBERS, (rs, rowNum) -> new CongressMember(
+                rs.getString("full_name"),
+                rs.getString("group_name") == null ? "" : rs.getString("group_name"),
+                rs.getString("email") == null ? "" : rs.getString("email"),
+                rs.getString("profile_url")), periodName);
+    }
+
+    private static final String SELECT_PROFILES_DUE = """
+            SELECT cm.full_name, pg.group_name, cm.email, cm.profile_url
+            FROM congress_members cm
+            JOIN parliamentary_periods pp ON pp.period_id = cm.period_id
+            LEFT JOIN parliamentary_groups pg ON pg.group_id = cm.group_id
+            WHERE pp.period_name = ?
+              AND cm.profile_url IS NOT NULL AND cm.profile_url <> ''
+              AND (cm.profile_fetched_time IS NULL OR cm.profile_fetched_time < ?)
+            ORDER BY cm.profile_fetched_time NULLS FIRST
+            LIMIT ?
+            """;
+
+    /**
+     * Members of the period whose profile was never stored or was stored before {@code fetchedBefore}, oldest first
+     */
+    public List<CongressMember> loadProfilesDue(String periodName, Instant fetchedBefore, int limit) {
+        return jdbcTemplate.query(SELECT_PROFILES_DUE, (rs, rowNum) -> new CongressMember(
+                rs.getString("full_name"),
+                rs.getString("group_name") == null ? "" : rs.getString("group_name"),
+                rs.getString("email") == null ? "" : rs.getString("email"),
+                rs.getString("profile_url")), periodName, Timestamp.from(fetchedBefore), limit);
+    }
+
+    /**
+     * The site lists names as "LAST NAMES, FIRST NAMES"
+     */
+    static String[] splitName(String fullName) {
+        int comma = fullName.indexOf(',');
+        if (comma < 0) {
+            return new String[]{null, null};
+        }
+        return new String[]{fullName.substring(0, comma).trim(), fullName.substring(comma + 1).trim()};
+    }
+}
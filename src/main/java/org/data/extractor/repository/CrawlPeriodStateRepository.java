@@ -0,0 +1,96 @@
+package org.data.extractor.repository;
+
+
+import org.data.extractor.entity.CrawlPeriodState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+
+@Repository
+public interface CrawlPeriodStateRepository extends JpaRepository<CrawlPeriodState, Long> {
+
+    List<CrawlPeriodState> findByRunIdOrderById(Long runId);
+
+
+    final String SELECT_CLAIMABLE = """
+            SELECT id FROM congreso.crawl_period_state
+            WHERE run_id = :runId
+              AND state <> 'PERSISTED'
+              AND (state <> 'FAILED' OR (attempts < :maxAttempts AND next_attempt_time <= CURRENT_TIMESTAMP))
+              AND (lease_owner IS NULL OR lease_expires_at < CURRENT_TIMESTAMP)
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    /**
+     * Lock up to {@code limit} periods nobody holds a live lease on; rows locked by other workers are skipped, not waited for
+     */
+    @Query(nativeQuery = true, value = SELECT_CLAIMABLE)
+    List<Long> lockClaimable(@Param("runId") Long runId,
+                             @Param("maxAttempts") int maxAttempts,
+                             @Param("limit") int limit);
+
+
+    final String ACQUIRE_LEASE = """
+            UPDATE congreso.crawl_period_state
+            SET lease_owner = :owner,
+                lease_expires_at = CURRENT_TIMESTAMP + make_interval(secs => :leaseSeconds)
+            WHERE id IN (:ids)
+            """;
+
+    @Modifying
+    @Query(nativeQuery = true, value = ACQUIRE_LEASE)
+    int acquireLease(@Param("ids") Collection<Long> ids,
+                     @Param("owner") String owner,
+                     @Param("leaseSeconds") long leaseSeconds);
+
+
+    final String RENEW_LEASES = """
+            UPDATE congreso.crawl_period_state
+            SET lease_expires_at = CURRENT_TIMESTAMP + make_interval(secs => :leaseSeconds)
+            WHERE lease_owner = :owner
+              AND state NOT IN ('PERSISTED', 'FAILED')
+            """;
+
+    /**
+     * Heartbeat: extend every lease the worker still holds
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = RENEW_LEASES)
+    int renewLeases(@Param("owner") String owner, @Param("leaseSeconds") long leaseSeconds);
+
+
+    final String UPDATE_LEASED_STATE = """
+            UPDATE congreso.crawl_period_state
+            SET state = :state,
+                attempts = :attempts,
+                next_attempt_time = :nextAttemptTime,
+                last_error = :lastError,
+                updated_time = CURRENT_TIMESTAMP,
+                lease_owner = CASE WHEN :release THEN NULL ELSE lease_owner END,
+                lease_expires_at = CASE WHEN :release THEN NULL ELSE lease_expires_at END
+            WHERE id = :id
+              AND lease_owner = :owner
+            """;
+
+    /**
+     * Checkpoint a period only while {@code owner} still holds its lease; 0 rows means another worker took it over
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = UPDATE_LEASED_STATE)
+    int updateLeased(@Param("id") Long id,
+                     @Param("owner") String owner,
+                     @Param("state") String state,
+                     @Param("attempts") int attempts,
+                     @Param("nextAttemptTime") Instant nextAttemptTime,
+                     @Param("lastError") String lastError,
+                     @Param("release") boolean release);
+}
@@ -0,0 +1,47 @@
+package org.data.extractor.repository;
+
+
+import org.data.extractor.entity.CrawlRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+
+@Repository
+public interface CrawlRunRepository extends JpaRepository<CrawlRun, Long> {
+
+    Optional<CrawlRun> findFirstByStatusOrderByStartedTimeDesc(CrawlRun.Status status);
+
+
+    final String ABANDON_RUNS = """
+            UPDATE CrawlRun r
+            SET r.status = :failed, r.finishedTime = :now
+            WHERE r.status = :running AND r.startedTime < :startedBefore
+            """;
+
+    /**
+     * Close RUNNING runs started before the cutoff as FAILED; they are too old to resume
+     */
+    @Modifying
+    @Query(ABANDON_RUNS)
+    int abandonRunsStartedBefore(@Param("startedBefore") Instant startedBefore,
+                                 @Param("now") Instant now,
+                                 @Param("running") CrawlRun.Status running,
+                                 @Param("failed") CrawlRun.Status failed);
+
+
+    final String LOCK_RUNS = """
+            SELECT 1 FROM (SELECT pg_advisory_xact_lock(hashtext('congreso.crawl_run'))) AS run_lock
+            """;
+
+    /**
+     * Serialise starting or resuming a run across workers, until the end of the transaction
+     */
+    @Query(nativeQuery = true, value = LOCK_RUNS)
+    Integer lockRuns();
+}
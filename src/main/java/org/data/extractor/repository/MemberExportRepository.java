@@ -0,0 +1,47 @@
+package org.data.extractor.repository;
+
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+
+
+/**
+ * Read side for exports: streams every member row through a server-side cursor.
+ * PostgreSQL only honours the fetch size inside a transaction, so callers must hold one.
+ */
+@Repository
+@Profile("!offline")
+public class MemberExportRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MemberExportRepository(DataSource dataSource,
+                                  @Value("${export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+
+    private static final String SELECT_ALL_MEMBERS = """
+            SELECT pp.period_name, pp.start_year, pp.end_year, pp.is_active,
+                   cm.full_name, pg.group_name, cm.email, cm.profile_url,
+                   cm.electoral_district, cm.gender, cm.status,
+                   cm.term_start_date, cm.term_end_date
+            FROM parliamentary_periods pp
+            LEFT JOIN congress_members cm ON cm.period_id = pp.period_id
+            LEFT JOIN parliamentary_groups pg ON pg.group_id = cm.group_id
+            ORDER BY pp.start_year DESC, pp.period_name, cm.full_name
+            """;
+
+    /**
+     * Hand every row to {@code handler}, grouped by period; periods without members yield one row with a NULL full_name
+     */
+    public void forEachMember(RowCallbackHandler handler) {
+        jdbcTemplate.query(SELECT_ALL_MEMBERS, handler);
+    }
+}
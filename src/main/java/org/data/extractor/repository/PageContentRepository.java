@@ -0,0 +1,33 @@
+package org.data.extractor.repository;
+
+
+import org.data.extractor.entity.PageContent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+
+@Repository
+public interface PageContentRepository extends JpaRepository<PageContent, String> {
+
+
+    final String INSERT_IF_ABSENT = """
+            INSERT INTO congreso.page_content (content_hash, codec, raw_length, compressed, inserted_time)
+            VALUES (:hash, :codec, :rawLength, :compressed, CURRENT_TIMESTAMP)
+            ON CONFLICT (content_hash) DO NOTHING
+            """;
+
+    /**
+     * Store the content unless the same hash is already there; safe under concurrent saves
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = INSERT_IF_ABSENT)
+    int insertIfAbsent(@Param("hash") String hash,
+                       @Param("codec") String codec,
+                       @Param("rawLength") int rawLength,
+                       @Param("compressed") byte[] compressed);
+
+
+}
@@ -0,0 +1,29 @@
+package org.data.extractor.repository;
+
+
+import org.data.extractor.entity.PageFragment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+
+@Repository
+public interface PageFragmentRepository extends JpaRepository<PageFragment, String> {
+
+
+    final String INSERT_IF_ABSENT = """
+            INSERT INTO congreso.page_fragment (content_hash, format_version, member_count, members, period_options, inserted_time)
+            VALUES (:hash, :formatVersion, :memberCount, :members, :periodOptions, CURRENT_TIMESTAMP)
+            ON CONFLICT (content_hash) DO NOTHING
+            """;
+
+    @Modifying
+    @Query(nativeQuery = true, value = INSERT_IF_ABSENT)
+    int insertIfAbsent(@Param("hash") String hash,
+                       @Param("formatVersion") int formatVersion,
+                       @Param("memberCount") Integer memberCount,
+                       @Param("members") String members,
+                       @Param("periodOptions") String periodOptions);
+}
@@ -0,0 +1,11 @@
+package org.data.extractor.repository;
+
+
+import org.data.extractor.entity.PeriodRefresh;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+
+@Repository
+public interface PeriodRefreshRepository extends JpaRepository<PeriodRefresh, String> {
+}
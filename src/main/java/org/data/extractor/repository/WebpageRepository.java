@@ -4,10 +4,14 @@ package org.data.extractor.repository;
 import org.data.extractor.entity.Webpage;
 import org.data.extractor.pojo.ParliamentaryPeriod;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
 
 @Repository
@@ -29,5 +33,37 @@ public interface WebpageRepository extends JpaRepository<Webpage, Long> {
     List<String> findAllFormatted();
 
 
+    // Freshness lookups below are served by idx_webpage_period_inserted
+    // (parliamentary_period, inserted_time DESC) and only select the projected columns.
 
-}
\ No newline at end of file
+    Optional<WebpageSummary> findFirstByParliamentaryPeriodOrderByInsertedTimeDesc(String period);
+
+    boolean existsByParliamentaryPeriodAndInsertedTimeGreaterThanEqual(String period, Instant since);
+
+
+    @Query("SELECT DISTINCT w.parliamentaryPeriod FROM Webpage w")
+    List<String> findDistinctParliamentaryPeriods();
+
+
+    /**
+     * Load the page blob of a single snapshot, only when the caller actually needs it
+     */
+    @Query("SELECT w.pageBlob FROM Webpage w WHERE w.id = :id")
+    Optional<String> findPageBlobById(@Param("id") Long id);
+
+
+    final String TOUCH_INSERTED_TIME = """
+            UPDATE congreso.webpage
+            SET inserted_time = :now
+            WHERE id = :id
+            """;
+
+    /**
+     * Mark a snapshot as current again (e.g. after a 304) instead of inserting a copy of it
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = TOUCH_INSERTED_TIME)
+    int touchInsertedTime(@Param("id") Long id, @Param("now") Instant now);
+
+
+}
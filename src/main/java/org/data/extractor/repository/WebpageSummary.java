@@ -0,0 +1,22 @@
+package org.data.extractor.repository;
+
+import java.time.Instant;
+
+/**
+ * Lightweight projection of a {@link org.data.extractor.entity.Webpage} row.
+ * Carries only the id, timestamps, content hash and HTTP validators so freshness checks never touch the page content.
+ */
+public interface WebpageSummary {
+
+    Long getId();
+
+    String getParliamentaryPeriod();
+
+    Instant getInsertedTime();
+
+    String getContentHash();
+
+    String getEtag();
+
+    String getLastModified();
+}
@@ -0,0 +1,36 @@
+package org.data.extractor.service;
+
+import org.data.extractor.repository.WebpageSummary;
+
+import java.util.Optional;
+
+/**
+ * Strategy that gets the member page of a parliamentary period. Only fetches: parsing and
+ * storing the page are later stages of the crawl pipeline.
+ */
+public interface CongressFetcher {
+
+    /**
+     * Fetch the period page, or return empty when this strategy could not get the member table.
+     * A snapshot that is still fresh is returned instead of fetching again.
+     */
+    Optional<FetchedPage> fetchPage(String periodName);
+
+    /**
+     * Either newly fetched HTML, or a stored snapshot that is still fresh
+     */
+    record FetchedPage(String periodName, String html, WebpageSummary snapshot) {
+
+        public static FetchedPage fetched(String periodName, String html) {
+            return new FetchedPage(periodName, html, null);
+        }
+
+        public static FetchedPage stored(WebpageSummary snapshot) {
+            return new FetchedPage(snapshot.getParliamentaryPeriod(), null, snapshot);
+        }
+
+        public boolean isStored() {
+            return snapshot != null;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package org.data.extractor.service;
+
+
+import org.data.extractor.entity.CrawlPeriodState;
+import org.data.extractor.entity.CrawlPeriodState.State;
+import org.data.extractor.entity.CrawlRun;
+import org.data.extractor.repository.CrawlPeriodStateRepository;
+import org.data.extractor.repository.CrawlRunRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * Persists crawl progress per period so a restarted application resumes where the
+ * previous run stopped, instead of deciding again from snapshot dates.
+ * <p>
+ * The period rows double as the work table shared by all scraper instances: a worker
+ * leases periods with {@code FOR UPDATE SKIP LOCKED} and keeps the lease alive with a
+ * heartbeat, so a dead worker's periods become claimable again once its lease expires.
+ */
+@Service
+@Profile("!offline")
+public class CrawlCheckpointService {
+
+    private final CrawlRunRepository runRepository;
+    private final CrawlPeriodStateRepository stateRepository;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration maxRetryBackoff;
+    private final long leaseSeconds;
+    private final Duration resumeMaxAge;
+    private final String workerId;
+
+    public CrawlCheckpointService(CrawlRunRepository runRepository,
+                                  CrawlPeriodStateRepository stateRepository,
+                                  @Value("${crawler.max-attempts:3}") int maxAttempts,
+                                  @Value("${crawler.retry-backoff-seconds:30}") long retryBackoffSeconds,
+                                  @Value("${crawler.max-retry-backoff-seconds:900}") long maxRetryBackoffSeconds,
+                                  @Value("${crawler.lease-seconds:60}") long leaseSeconds,
+                                  @Value("${crawler.resume-max-age:PT12H}") Duration resumeMaxAge,
+                                  @Value("${crawler.worker-id:}") String workerId) {
+        this.runRepository = runRepository;
+        this.stateRepository = stateRepository;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = Duration.ofSeconds(retryBackoffSeconds);
+        this.maxRetryBackoff = Duration.ofSeconds(maxRetryBackoffSeconds);
+        this.leaseSeconds = leaseSeconds;
+        this.resumeMaxAge = resumeMaxAge;
+        this.workerId = workerId.isBlank() ? defaultWorkerId() : workerId;
+    }
+
+    public String getWorkerId() {
+        return workerId;
+    }
+
+    /**
+     * Resume the last unfinished run, or start a new one; periods not yet tracked are added as PENDING.
+     * Runs older than {@code crawler.resume-max-age} are closed as FAILED instead: their PERSISTED
+     * periods are stale, and skipping them would record them as unchanged without a fetch.
+     */
+    @Transactional
+    public CrawlRun startOrResume(List<String> periods) {
+        // Workers starting together must join one run rather than each open their own
+        runRepository.lockRuns();
+        Instant now = Instant.now();
+        int abandoned = runRepository.abandonRunsStartedBefore(now.minus(resumeMaxAge), now,
+                CrawlRun.Status.RUNNING, CrawlRun.Status.FAILED);
+        if (abandoned > 0) {
+            System.out.println("  ✗ Closed " + abandoned + " crawl run(s) older than " + resumeMaxAge + " as FAILED");
+        }
+        CrawlRun run = runRepository.findFirstByStatusOrderByStartedTimeDesc(CrawlRun.Status.RUNNING)
+                .map(existing -> {
+                    System.out.println("Resuming crawl run " + existing.getId() + " started at " + existing.getStartedTime());
+                    return existing;
+                })
+                .orElseGet(() -> runRepository.save(CrawlRun.builder().status(CrawlRun.Status.RUNNING).build()));
+
+        Set<String> tracked = stateRepository.findByRunIdOrderById(run.getId()).stream()
+                .map(CrawlPeriodState::getPeriodName)
+                .collect(Collectors.toSet());
+        List<CrawlPeriodState> added = periods.stream()
+                .distinct()
+                .filter(period -> !tracked.contains(period))
+                .map(period -> CrawlPeriodState.builder()
+                        .runId(run.getId())
+                        .periodName(period)
+                        .state(State.PENDING)
+                        .build())
+                .toList();
+        stateRepository.saveAll(added);
+        return run;
+    }
+
+    /**
+     * Lease up to {@code limit} periods to this worker: pending ones, interrupted ones whose lease
+     * expired, and failures due for retry. Periods leased by live workers are never returned.
+     */
+    @Transactional
+    public List<CrawlPeriodState> claim(CrawlRun run, int limit) {
+        List<Long> ids = stateRepository.lockClaimable(run.getId(), maxAttempts, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        stateRepository.acquireLease(ids, workerId, leaseSeconds);
+        return stateRepository.findAllById(ids);
+    }
+
+    /**
+     * When to look for work again: the next retry of a failed period, or the expiry of a lease
+     * held by another worker. Empty when every period is persisted or out of attempts.
+     */
+    @Transactional(readOnly = true)
+    public Optional<Instant> nextWakeUp(CrawlRun run) {
+        return stateRepository.findByRunIdOrderById(run.getId()).stream()
+                .flatMap(state -> switch (state.getState()) {
+                    case PERSISTED -> Stream.<Instant>empty();
+                    case FAILED -> state.getAttempts() < maxAttempts ? Stream.of(state.getNextAttemptTime()) : Stream.<Instant>empty();
+                    default -> Stream.of(state.getLeaseExpiresAt() != null ? state.getLeaseExpiresAt() : Instant.now());
+                })
+                .min(Instant::compareTo);
+    }
+
+    /**
+     * Heartbeat: keep the leases of periods this worker is still working on
+     */
+    @Scheduled(fixedDelayString = "${crawler.lease-heartbeat-ms:15000}")
+    @Transactional
+    public void renewLeases() {
+        stateRepository.renewLeases(workerId, leaseSeconds);
+    }
+
+    /**
+     * Move the period to {@code next}; false when the lease was lost and the caller must drop its result
+     */
+    @Transactional
+    public boolean transition(CrawlPeriodState state, State next) {
+        state.setState(next);
+        if (next == State.FETCHING) {
+            state.setAttempts(state.getAttempts() + 1);
+        }
+        if (next == State.PERSISTED) {
+            state.setLastError(null);
+            state.setNextAttemptTime(null);
+        }
+        return updateLeased(state, next == State.PERSISTED);
+    }
+
+    /**
+     * Mark the period failed and schedule its retry with exponential backoff; false when the lease was lost
+     */
+    @Transactional
+    public boolean markFailed(CrawlPeriodState state, String error) {
+        int attempts = Math.max(1, state.getAttempts());
+        long factor = 1L << Math.min(attempts - 1, 16);
+        Duration backoff = retryBackoff.multipliedBy(factor);
+        if (backoff.compareTo(maxRetryBackoff) > 0) {
+            backoff = maxRetryBackoff;
+        }
+
+        state.setState(State.FAILED);
+        state.setAttempts(attempts);
+        state.setLastError(error == null ? null : error.substring(0, Math.min(error.length(), 1000)));
+        state.setNextAttemptTime(Instant.now().plus(backoff));
+        if (!updateLeased(state, true)) {
+            return false;
+        }
+
+        System.out.println("  ✗ Period " + state.getPeriodName() + " failed (attempt " + attempts + "/" + maxAttempts + "): " + error);
+        return true;
+    }
+
+    // The state is written only while this worker holds the lease: a worker whose lease expired and
+    // was claimed by another must not overwrite the newer checkpoint
+    private boolean updateLeased(CrawlPeriodState state, boolean release) {
+        int updated = stateRepository.updateLeased(state.getId(), workerId, state.getState().name(), state.getAttempts(),
+                state.getNextAttemptTime(), state.getLastError(), release);
+        if (updated == 0) {
+            System.out.println("  ✗ Lease on " + state.getPeriodName() + " lost to another worker, dropping this result");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Close the run: COMPLETED when every period was persisted, FAILED when some ran out of attempts.
+     * Whichever worker gets here first closes it; the others find it already closed.
+     */
+    @Transactional
+    public CrawlRun finish(CrawlRun run) {
+        runRepository.lockRuns();
+        CrawlRun current = runRepository.findById(run.getId()).orElse(run);
+        if (current.getStatus() != CrawlRun.Status.RUNNING) {
+            return current;
+        }
+        boolean allPersisted = stateRepository.findByRunIdOrderById(current.getId()).stream()
+                .allMatch(state -> state.getState() == State.PERSISTED);
+        current.setStatus(allPersisted ? CrawlRun.Status.COMPLETED : CrawlRun.Status.FAILED);
+        current.setFinishedTime(Instant.now());
+        System.out.println("Crawl run " + current.getId() + " finished: " + current.getStatus());
+        return runRepository.save(current);
+    }
+
+    private static String defaultWorkerId() {
+        try {
+            return InetAddress.getLocalHost().getHostName() + "-" + ProcessHandle.current().pid();
+        } catch (UnknownHostException e) {
+            return "worker-" + ProcessHandle.current().pid();
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package org.data.extractor.service;
+
+/**
+ * Published by the crawler once it has no more periods to work on
+ */
+public record CrawlCompletedEvent(Long runId, int periodsProcessed) {}
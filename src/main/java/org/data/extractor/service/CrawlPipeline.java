@@ -0,0 +1,233 @@
+package org.data.extractor.service;
+
+import org.data.extractor.entity.CrawlPeriodState;
+import org.data.extractor.entity.CrawlPeriodState.State;
+import org.data.extractor.metrics.ScraperMetrics;
+import org.data.extractor.pojo.CongressMember;
+import org.data.extractor.pojo.MemberDelta;
+import org.data.extractor.service.CongressFetcher.FetchedPage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fetch → parse → persist stages connected by bounded queues, each stage with its own
+ * number of workers. A full queue blocks the stage feeding it, so a slow database holds
+ * back parsing and fetching instead of letting pages pile up in memory. With the stages
+ * overlapping, a batch takes about as long as its slowest stage.
+ */
+@Component
+@Profile("!offline")
+public class CrawlPipeline {
+
+    /**
+     * A period moving through the stages; members are set by the parse stage
+     */
+    private record Work(CrawlPeriodState state, FetchedPage page, List<CongressMember> members) {
+        static final Work END = new Work(null, null, null);
+    }
+
+    private final CongressFetcher fetcher;
+    private final WebpageRepositoryService webpageRepositoryService;
+    private final MemberTableExtractor memberTableExtractor;
+    private final MemberPersistenceService persistenceService;
+    private final ProfileCrawler profileCrawler;
+    private final CrawlCheckpointService checkpoints;
+    private final ScraperMetrics metrics;
+    private final boolean profilesEnabled;
+    private final int fetchWorkers;
+    private final int parseWorkers;
+    private final int persistWorkers;
+    private final int queueCapacity;
+
+    // Queues of the batch in progress, for the depth gauges
+    private volatile ConcurrentLinkedQueue<CrawlPeriodState> fetchQueue = new ConcurrentLinkedQueue<>();
+    private volatile BlockingQueue<Work> parseQueue = new ArrayBlockingQueue<>(1);
+    private volatile BlockingQueue<Work> persistQueue = new ArrayBlockingQueue<>(1);
+
+    public CrawlPipeline(CongressFetcher fetcher,
+                         WebpageRepositoryService webpageRepositoryService,
+                         MemberTableExtractor memberTableExtractor,
+                         MemberPersistenceService persistenceService,
+                         ProfileCrawler profileCrawler,
+                         CrawlCheckpointService checkpoints,
+                         ScraperMetrics metrics,
+                         @Value("${profiles.enabled:true}") boolean profilesEnabled,
+                         @Value("${pipeline.fetch-concurrency:4}") int fetchWorkers,
+                         @Value("${pipeline.parse-concurrency:2}") int parseWorkers,
+                         @Value("${pipeline.persist-concurrency:2}") int persistWorkers,
+                         @Value("${pipeline.queue-capacity:4}") int queueCapacity) {
+        this.fetcher = fetcher;
+        this.webpageRepositoryService = webpageRepositoryService;
+        this.memberTableExtractor = memberTableExtractor;
+        this.persistenceService = persistenceService;
+        this.profileCrawler = profileCrawler;
+        this.checkpoints = checkpoints;
+        this.metrics = metrics;
+        this.profilesEnabled = profilesEnabled;
+        this.fetchWorkers = Math.max(1, fetchWorkers);
+        this.parseWorkers = Math.max(1, parseWorkers);
+        this.persistWorkers = Math.max(1, persistWorkers);
+        this.queueCapacity = Math.max(1, queueCapacity);
+
+        metrics.gauge("congreso.pipeline.queue.depth", "Periods waiting for a pipeline stage", this,
+                pipeline -> pipeline.fetchQueue.size(), "stage", "fetch");
+        metrics.gauge("congreso.pipeline.queue.depth", "Periods waiting for a pipeline stage", this,
+                pipeline -> pipeline.parseQueue.size(), "stage", "parse");
+        metrics.gauge("congreso.pipeline.queue.depth", "Periods waiting for a pipeline stage", this,
+                pipeline -> pipeline.persistQueue.size(), "stage", "persist");
+    }
+
+    /**
+     * Run the leased periods through all stages; returns the members of every period that was persisted
+     */
+    public Map<String, List<CongressMember>> process(List<CrawlPeriodState> claimed) {
+        ConcurrentLinkedQueue<CrawlPeriodState> toFetch = new ConcurrentLinkedQueue<>(claimed);
+        BlockingQueue<Work> toParse = new ArrayBlockingQueue<>(queueCapacity);
+        BlockingQueue<Work> toPersist = new ArrayBlockingQueue<>(queueCapacity);
+        fetchQueue = toFetch;
+        parseQueue = toParse;
+        persistQueue = toPersist;
+
+        Map<String, List<CongressMember>> results = new ConcurrentHashMap<>();
+        // Closed last: profile enrichment may still run after the stages are done
+        try (ExecutorService enrichment = Executors.newVirtualThreadPerTaskExecutor();
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            AtomicInteger fetching = new AtomicInteger(fetchWorkers);
+            for (int i = 0; i < fetchWorkers; i++) {
+                executor.submit(() -> {
+                    try {
+                        CrawlPeriodState state;
+                        while ((state = toFetch.poll()) != null) {
+                            fetch(state, toParse);
+                        }
+                    } finally {
+                        // The last fetcher out tells every parser to stop once the queue is drained
+                        signalEnd(fetching, toParse, parseWorkers);
+                    }
+                    return null;
+                });
+            }
+
+            AtomicInteger parsing = new AtomicInteger(parseWorkers);
+            for (int i = 0; i < parseWorkers; i++) {
+                executor.submit(() -> {
+                    try {
+                        Work work;
+                        while ((work = toParse.take()) != Work.END) {
+                            parse(work, toPersist);
+                        }
+                    } finally {
+                        signalEnd(parsing, toPersist, persistWorkers);
+                    }
+                    return null;
+                });
+            }
+
+            for (int i = 0; i < persistWorkers; i++) {
+                executor.submit(() -> {
+                    Work work;
+                    while ((work = toPersist.take()) != Work.END) {
+                        persist(work, enrichment).ifPresent(members -> results.put(members.getKey(), members.getValue()));
+                    }
+                    return null;
+                });
+            }
+        }
+        return results;
+    }
+
+    // ---- Stages -----------------------------------------------------------------
+
+    private void fetch(CrawlPeriodState state, BlockingQueue<Work> next) throws InterruptedException {
+        String period = state.getPeriodName();
+        try {
+            // Parsed before an interruption: continue from the stored snapshot instead of fetching again
+            Optional<FetchedPage> page = state.getState() == State.PARSED
+                    ? webpageRepositoryService.findLatest(period).map(FetchedPage::stored)
+                    : Optional.empty();
+            if (page.isEmpty()) {
+                if (!checkpoints.transition(state, State.FETCHING)) {
+                    return;
+                }
+                page = fetcher.fetchPage(period);
+            }
+            if (page.isEmpty()) {
+                checkpoints.markFailed(state, "Page not fetched");
+                return;
+            }
+            next.put(new Work(state, page.get(), null));
+        } catch (RuntimeException e) {
+            checkpoints.markFailed(state, e.getMessage());
+        }
+    }
+
+    private void parse(Work work, BlockingQueue<Work> next) throws InterruptedException {
+        CrawlPeriodState state = work.state();
+        try {
+            FetchedPage page = work.page();
+            Optional<List<CongressMember>> members = (page.isStored()
+                    ? webpageRepositoryService.loadMembers(page.snapshot())
+                    : memberTableExtractor.extractMembers(page.html()))
+                    .filter(list -> !list.isEmpty());
+            if (members.isEmpty()) {
+                checkpoints.markFailed(state, "No members extracted");
+                return;
+            }
+            metrics.rowsExtracted(state.getPeriodName(), members.get().size());
+            System.out.println("  ✓ Parsed " + members.get().size() + " members for " + state.getPeriodName());
+            next.put(new Work(state, page, members.get()));
+        } catch (RuntimeException e) {
+            checkpoints.markFailed(state, e.getMessage());
+        }
+    }
+
+    private Optional<Map.Entry<String, List<CongressMember>>> persist(Work work, ExecutorService enrichment) {
+        CrawlPeriodState state = work.state();
+        String period = state.getPeriodName();
+        try {
+            if (!work.page().isStored()) {
+                System.out.println("  → Saving: Webpage Repository period " + period + "...");
+                webpageRepositoryService.saveSnapshot(period, work.page().html());
+            }
+            // Also confirms the lease is still ours before the members are written
+            if (!checkpoints.transition(state, State.PARSED)) {
+                return Optional.empty();
+            }
+
+            MemberDelta delta = persistenceService.persistPeriod(period, work.members());
+            if (!checkpoints.transition(state, State.PERSISTED)) {
+                return Optional.empty();
+            }
+
+            // Profile pages are a separate, rate-limited crawl; keep it off the persist workers.
+            // Unchanged rows still get their missing or stale profiles fetched.
+            if (profilesEnabled) {
+                enrichment.submit(() -> profileCrawler.enrichChangedAndDue(period, delta.changed()));
+            }
+            return Optional.of(Map.entry(period, work.members()));
+        } catch (RuntimeException e) {
+            checkpoints.markFailed(state, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static void signalEnd(AtomicInteger remaining, BlockingQueue<Work> next, int consumers) throws InterruptedException {
+        if (remaining.decrementAndGet() == 0) {
+            for (int i = 0; i < consumers; i++) {
+                next.put(Work.END);
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package org.data.extractor.service;
+
+
+import lombok.RequiredArgsConstructor;
+import org.data.extractor.pojo.CongressMember;
+import org.data.extractor.pojo.MemberDelta;
+import org.data.extractor.pojo.ParliamentaryPeriod;
+import org.data.extractor.repository.CongressMemberBatchRepository;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+
+/**
+ * Snapshot store over the congress tables of create.sql
+ */
+@Service
+@Primary
+@Profile("!offline")
+@RequiredArgsConstructor
+public class DatabaseSnapshotStore implements SnapshotStore {
+
+    private final CongressMemberBatchRepository batchRepository;
+    private final MemberPersistenceService persistenceService;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ParliamentaryPeriod> findPeriods() {
+        return batchRepository.loadPeriods();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<List<CongressMember>> findMembers(String periodName) {
+        List<CongressMember> members = batchRepository.loadMembers(periodName);
+        return members.isEmpty() ? Optional.empty() : Optional.of(members);
+    }
+
+    @Override
+    @Transactional
+    public void savePeriods(List<ParliamentaryPeriod> periods) {
+        periods.forEach(batchRepository::upsertPeriod);
+    }
+
+    @Override
+    public MemberDelta saveMembers(String periodName, List<CongressMember> members) {
+        return persistenceService.persistPeriod(periodName, members);
+    }
+}
@@ -0,0 +1,138 @@
+package org.data.extractor.service;
+
+
+import jakarta.annotation.PreDestroy;
+import org.data.extractor.pojo.CongressMember;
+import org.data.extractor.pojo.MemberDelta;
+import org.data.extractor.pojo.ParliamentaryPeriod;
+import org.eclipse.serializer.reference.Lazy;
+import org.eclipse.store.storage.embedded.types.EmbeddedStorage;
+import org.eclipse.store.storage.embedded.types.EmbeddedStorageManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+
+/**
+ * Embedded object-graph store for single-node and offline use. The period list is kept
+ * in memory; each period's members live in their own lazily loaded partition, so startup
+ * only reads the root and a period is loaded from local storage on first access.
+ * <p>
+ * Enabled by {@code storage.embedded.enabled}, which the {@code offline} profile turns on.
+ * Outside that profile it is a mirror that the startup crawl writes into.
+ */
+@Service
+@ConditionalOnProperty(name = "storage.embedded.enabled", havingValue = "true")
+public class EclipseSnapshotStore implements SnapshotStore {
+
+    /**
+     * Storage root; only ever mutated under the write lock
+     */
+    static class SnapshotRoot {
+        List<ParliamentaryPeriod> periods = new ArrayList<>();
+        Map<String, Lazy<List<CongressMember>>> members = new HashMap<>();
+        Instant updatedTime;
+    }
+
+    private final EmbeddedStorageManager storage;
+    private final SnapshotRoot root;
+    private final SnapshotDiffer snapshotDiffer;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public EclipseSnapshotStore(SnapshotDiffer snapshotDiffer,
+                                @Value("${storage.embedded.directory:data/snapshot-store}") String directory) {
+        this.snapshotDiffer = snapshotDiffer;
+        this.storage = EmbeddedStorage.start(Path.of(directory));
+        if (storage.root() == null) {
+            storage.setRoot(new SnapshotRoot());
+            storage.storeRoot();
+        }
+        this.root = (SnapshotRoot) storage.root();
+        System.out.println("✓ Embedded snapshot store opened at " + directory
+                + " (" + root.periods.size() + " periods, updated " + root.updatedTime + ")");
+    }
+
+    @Override
+    public List<ParliamentaryPeriod> findPeriods() {
+        lock.readLock().lock();
+        try {
+            return List.copyOf(root.periods);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<List<CongressMember>> findMembers(String periodName) {
+        lock.readLock().lock();
+        try {
+            Lazy<List<CongressMember>> partition = root.members.get(periodName);
+            return partition == null ? Optional.empty() : Optional.of(List.copyOf(partition.get()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void savePeriods(List<ParliamentaryPeriod> periods) {
+        lock.writeLock().lock();
+        try {
+            root.periods = new ArrayList<>(periods);
+            root.updatedTime = Instant.now();
+            storage.storeRoot();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public MemberDelta saveMembers(String periodName, List<CongressMember> members) {
+        lock.writeLock().lock();
+        try {
+            Map<String, String> stored = new HashMap<>();
+            Lazy<List<CongressMember>> current = root.members.get(periodName);
+            if (current != null) {
+                current.get().forEach(member -> stored.put(member.name(), member.fingerprint()));
+            }
+
+            MemberDelta delta = snapshotDiffer.diff(periodName, stored, members);
+            if (delta.isEmpty() && current != null) {
+                return delta;
+            }
+
+            // A new partition replaces the old one, which storage housekeeping reclaims
+            root.members.put(periodName, Lazy.Reference(new ArrayList<>(members)));
+            root.updatedTime = Instant.now();
+            storage.storeAll(root.members, root);
+            return delta;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drop loaded member partitions from memory; they are read again on next access
+     */
+    public void releasePartitions() {
+        lock.writeLock().lock();
+        try {
+            root.members.values().forEach(Lazy::clear);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        storage.shutdown();
+    }
+}
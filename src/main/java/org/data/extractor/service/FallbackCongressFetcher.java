@@ -0,0 +1,40 @@
+package org.data.extractor.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * Tries the plain-HTTP fetcher first and only falls back to Selenium
+ * when the HTTP path did not return a member table. The Selenium fetcher and its driver
+ * pool are created on first fallback, so runs served over HTTP or from storage never start them.
+ */
+@Service
+@Profile("!offline")
+@Primary
+@RequiredArgsConstructor
+public class FallbackCongressFetcher implements CongressFetcher {
+
+    @Value("${congreso.http-fetch.enabled:true}")
+    private boolean httpFetchEnabled;
+
+    private final HttpCongressFetcher httpFetcher;
+    private final ObjectProvider<SeleniumCongressFetcher> seleniumFetcher;
+
+    @Override
+    public Optional<FetchedPage> fetchPage(String periodName) {
+        if (httpFetchEnabled) {
+            Optional<FetchedPage> page = httpFetcher.fetchPage(periodName);
+            if (page.isPresent()) {
+                return page;
+            }
+            System.out.println("  → Falling back to Selenium for " + periodName);
+        }
+        return seleniumFetcher.getObject().fetchPage(periodName);
+    }
+}
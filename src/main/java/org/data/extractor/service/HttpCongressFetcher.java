@@ -0,0 +1,157 @@
+package org.data.extractor.service;
+
+import lombok.RequiredArgsConstructor;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Fetches period pages without a browser by replaying the {@code idRegistroPadre} form submission
+ */
+@Service
+@Profile("!offline")
+@RequiredArgsConstructor
+public class HttpCongressFetcher implements CongressFetcher {
+
+    static final String PERIOD_FIELD = "idRegistroPadre";
+
+    @Value("${congreso.base-url}")
+    private String BASE_URL;
+
+    private final HttpPageClient httpPageClient;
+    private final MemberTableExtractor memberTableExtractor;
+
+    private final WebpageRepositoryService webpageRepositoryService;
+    private final RefreshPolicy refreshPolicy;
+
+    @Override
+    public Optional<FetchedPage> fetchPage(String periodName) {
+        try {
+            Optional<FetchedPage> stored = webpageRepositoryService.isFresh(periodName, refreshPolicy.maxAge(periodName))
+                    ? webpageRepositoryService.findLatest(periodName).map(FetchedPage::stored)
+                    : Optional.empty();
+            if (stored.isPresent()) {
+                return stored;
+            }
+
+            System.out.println("Processing parliamentary period over HTTP: " + periodName);
+            String page = fetchPeriodPage(periodName);
+            // A JS-rendered page or an empty table must fall back to Selenium, not fail in the parse stage.
+            // The streaming extractor stops after the first table, so the check stays cheap.
+            if (page == null || memberTableExtractor.extractMembers(page).filter(list -> !list.isEmpty()).isEmpty()) {
+                System.out.println("  ✗ No member rows over HTTP for " + periodName);
+                return Optional.empty();
+            }
+
+            return Optional.of(FetchedPage.fetched(periodName, page));
+        } catch (IOException e) {
+            System.out.println("  ✗ HTTP fetch failed for " + periodName + ": " + e.getMessage());
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Load the base page and submit its period form with the requested option selected.
+     * Both requests share a cookie jar of their own; the answer only counts when its
+     * dropdown shows the requested period, so a mixed-up server session is never stored.
+     */
+    private String fetchPeriodPage(String periodName) throws IOException, InterruptedException {
+        HttpPageClient.Session session = httpPageClient.newSession();
+        String baseHtml = httpPageClient.get(URI.create(BASE_URL), session).body();
+        Document base = Jsoup.parse(baseHtml, BASE_URL);
+
+        Element select = base.selectFirst("select[name=" + PERIOD_FIELD + "]");
+        if (select == null) {
+            return null;
+        }
+        Element option = select.select("option").stream()
+                .filter(o -> o.text().trim().equals(periodName))
+                .findFirst()
+                .orElse(null);
+        if (option == null) {
+            return null;
+        }
+        if (option.hasAttr("selected")) {
+            return baseHtml;
+        }
+
+        Element form = select.closest("form");
+        Map<String, String> fields = form != null ? formFields(form) : new LinkedHashMap<>();
+        fields.put(PERIOD_FIELD, option.hasAttr("value") ? option.attr("value") : option.text());
+
+        String action = form != null && !form.absUrl("action").isEmpty() ? form.absUrl("action") : BASE_URL;
+        String body = encode(fields);
+
+        HttpRequest.Builder request;
+        if (form != null && "post".equalsIgnoreCase(form.attr("method"))) {
+            request = HttpRequest.newBuilder()
+                    .uri(URI.create(action))
+                    .header("Content-Type", "application/x-www-form-urlencoded")
+                    .POST(HttpRequest.BodyPublishers.ofString(body));
+        } else {
+            request = HttpRequest.newBuilder()
+                    .uri(URI.create(action + (action.contains("?") ? "&" : "?") + body))
+                    .GET();
+        }
+
+        String page = httpPageClient.send(request, session).body();
+        if (!isSelected(page, periodName)) {
+            System.out.println("  ✗ Form answer for " + periodName + " shows another period selected");
+            return null;
+        }
+        return page;
+    }
+
+    private boolean isSelected(String html, String periodName) {
+        return memberTableExtractor.extractSelectedOption(html, PERIOD_FIELD).filter(periodName::equals).isPresent();
+    }
+
+    /**
+     * Current values of the form controls, as the browser would submit them
+     */
+    private Map<String, String> formFields(Element form) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        for (Element input : form.select("input[name]")) {
+            String type = input.attr("type").toLowerCase();
+            if ((type.equals("checkbox") || type.equals("radio")) && !input.hasAttr("checked")) {
+                continue;
+            }
+            if (type.equals("submit") || type.equals("button") || type.equals("image")) {
+                continue;
+            }
+            fields.put(input.attr("name"), input.val());
+        }
+        for (Element select : form.select("select[name]")) {
+            Element selected = select.selectFirst("option[selected]");
+            if (selected == null) {
+                selected = select.selectFirst("option");
+            }
+            if (selected != null) {
+                fields.put(select.attr("name"), selected.hasAttr("value") ? selected.attr("value") : selected.text());
+            }
+        }
+        return fields;
+    }
+
+    private static String encode(Map<String, String> fields) {
+        return fields.entrySet().stream()
+                .map(e -> URLEncoder.encode(e.getKey(), StandardCharsets.UTF_8) + "=" + URLEncoder.encode(e.getValue(), StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&"));
+    }
+}
@@ -0,0 +1,257 @@
+package org.data.extractor.service;
+
+import lombok.RequiredArgsConstructor;
+import org.data.extractor.metrics.ScraperMetrics;
+import org.springframework.stereotype.Service;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.CookieManager;
+import java.net.CookiePolicy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Thin layer over the shared {@link HttpClient}: negotiates compressed transfer,
+ * decodes the body as a stream and supports conditional GETs. Redirects are followed here, hop by hop;
+ * cookies only travel within a {@link Session}.
+ */
+@Service
+@RequiredArgsConstructor
+public class HttpPageClient {
+
+    // The JDK ships gzip and deflate decoders; brotli would need a native library
+    private static final String ACCEPT_ENCODING = "gzip, deflate";
+
+    private static final Set<Integer> REDIRECTS = Set.of(301, 302, 303, 307, 308);
+    private static final int MAX_REDIRECTS = 5;
+
+    private final HttpClient client;
+    private final ScraperMetrics metrics;
+
+    /**
+     * Result of a page request. {@code body} is null on a 304.
+     */
+    public record FetchResult(int statusCode, String body, String etag, String lastModified, long transferredBytes) {
+
+        public boolean notModified() {
+            return statusCode == 304;
+        }
+    }
+
+    /**
+     * A 4xx/5xx answer, with its status so callers can tell retryable failures from permanent ones
+     */
+    public static final class StatusException extends IOException {
+        private final int statusCode;
+
+        public StatusException(int statusCode, URI uri) {
+            super("HTTP " + statusCode + " from " + uri);
+            this.statusCode = statusCode;
+        }
+
+        public int statusCode() {
+            return statusCode;
+        }
+
+        /**
+         * 429 and 5xx may succeed later; any other 4xx will not
+         */
+        public boolean isRetryable() {
+            return statusCode == 429 || statusCode >= 500;
+        }
+    }
+
+    /**
+     * Cookie jar for one GET-then-submit sequence, so concurrent period fetches never share a server session
+     */
+    public static final class Session {
+        private final CookieManager cookies = new CookieManager(null, CookiePolicy.ACCEPT_ORIGINAL_SERVER);
+    }
+
+    public Session newSession() {
+        return new Session();
+    }
+
+    /**
+     * Plain GET with compressed transfer
+     */
+    public FetchResult get(URI uri) throws IOException, InterruptedException {
+        return get(uri, null, null);
+    }
+
+    /**
+     * Plain GET that keeps the cookies it receives in {@code session}
+     */
+    public FetchResult get(URI uri, Session session) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder().uri(uri).GET(), session);
+    }
+
+    /**
+     * GET that asks the server to answer 304 when the page did not change since the given validators
+     */
+    public FetchResult get(URI uri, String etag, String lastModified) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder().uri(uri).GET();
+        if (etag != null) {
+            request.header("If-None-Match", etag);
+        }
+        if (lastModified != null) {
+            request.header("If-Modified-Since", lastModified);
+        }
+        return send(request);
+    }
+
+    /**
+     * Send any request with compressed transfer; fails on 4xx/5xx
+     */
+    public FetchResult send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return send(request, null);
+    }
+
+    /**
+     * Send a request with the cookies of {@code session}, storing the ones set by the response and its redirects
+     */
+    public FetchResult send(HttpRequest.Builder request, Session session) throws IOException, InterruptedException {
+        HttpRequest built = request.header("Accept-Encoding", ACCEPT_ENCODING).build();
+        long start = System.nanoTime();
+        HttpResponse<InputStream> response = exchange(built, session);
+        HttpHeaders headers = response.headers();
+        String etag = headers.firstValue("ETag").orElse(null);
+        String lastModified = headers.firstValue("Last-Modified").orElse(null);
+
+        try (InputStream raw = response.body()) {
+            if (response.statusCode() == 304) {
+                metrics.httpFetch(Duration.ofNanos(System.nanoTime() - start), 304, 0);
+                return new FetchResult(304, null, etag, lastModified, 0);
+            }
+            if (response.statusCode() >= 400) {
+                metrics.httpFetch(Duration.ofNanos(System.nanoTime() - start), response.statusCode(), 0);
+                throw new StatusException(response.statusCode(), built.uri());
+            }
+
+            CountingInputStream counted = new CountingInputStream(raw);
+            try (InputStream decoded = decode(counted, headers.firstValue("Content-Encoding").orElse(""))) {
+                String body = new String(decoded.readAllBytes(), charset(headers));
+                metrics.httpFetch(Duration.ofNanos(System.nanoTime() - start), response.statusCode(), counted.count);
+                return new FetchResult(response.statusCode(), body, etag, lastModified, counted.count);
+            }
+        }
+    }
+
+    /**
+     * Follows redirects here rather than in the client, so every hop carries the cookies set by the previous ones
+     */
+    private HttpResponse<InputStream> exchange(HttpRequest request, Session session) throws IOException, InterruptedException {
+        for (int hop = 0; ; hop++) {
+            HttpResponse<InputStream> response = client.send(withCookies(request, session), HttpResponse.BodyHandlers.ofInputStream());
+            if (session != null) {
+                session.cookies.put(response.uri(), response.headers().map());
+            }
+            Optional<URI> target = response.headers().firstValue("Location").map(request.uri()::resolve);
+            if (!REDIRECTS.contains(response.statusCode()) || target.isEmpty() || hop == MAX_REDIRECTS
+                    || isDowngrade(request.uri(), target.get())) {
+                return response;
+            }
+            response.body().close();
+            request = redirect(request, response.statusCode(), target.get());
+        }
+    }
+
+    private static HttpRequest withCookies(HttpRequest request, Session session) throws IOException {
+        if (session == null) {
+            return request;
+        }
+        List<String> cookies = session.cookies.get(request.uri(), Map.of()).getOrDefault("Cookie", List.of());
+        if (cookies.isEmpty()) {
+            return request;
+        }
+        return HttpRequest.newBuilder(request, (name, value) -> true)
+                .header("Cookie", String.join("; ", cookies))
+                .build();
+    }
+
+    /**
+     * Same rules as {@link HttpClient.Redirect#NORMAL}: 303, and a POST answered with 301/302, continue as a GET
+     */
+    private static HttpRequest redirect(HttpRequest request, int statusCode, URI target) {
+        boolean toGet = statusCode == 303 || (statusCode != 307 && statusCode != 308 && "POST".equals(request.method()));
+        if (!toGet) {
+            return HttpRequest.newBuilder(request, (name, value) -> true).uri(target).build();
+        }
+        return HttpRequest.newBuilder(request, (name, value) -> !name.equalsIgnoreCase("Content-Type"))
+                .uri(target)
+                .GET()
+                .build();
+    }
+
+    private static boolean isDowngrade(URI from, URI to) {
+        return "https".equalsIgnoreCase(from.getScheme()) && "http".equalsIgnoreCase(to.getScheme());
+    }
+
+    private static InputStream decode(InputStream in, String contentEncoding) throws IOException {
+        return switch (contentEncoding.trim().toLowerCase(Locale.ROOT)) {
+            case "gzip", "x-gzip" -> new GZIPInputStream(in, 16 * 1024);
+            case "deflate" -> new InflaterInputStream(in);
+            default -> in;
+        };
+    }
+
+    private static Charset charset(HttpHeaders headers) {
+        return headers.firstValue("Content-Type")
+                .map(type -> {
+                    int idx = type.toLowerCase(Locale.ROOT).indexOf("charset=");
+                    if (idx < 0) {
+                        return null;
+                    }
+                    try {
+                        return Charset.forName(type.substring(idx + 8).replace("\"", "").split(";")[0].trim());
+                    } catch (IllegalArgumentException e) {
+                        return null;
+                    }
+                })
+                .orElse(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Counts the bytes that actually went over the wire, before decompression
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+    }
+}
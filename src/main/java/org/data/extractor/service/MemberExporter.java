@@ -0,0 +1,166 @@
+package org.data.extractor.service;
+
+
+import com.google.gson.stream.JsonWriter;
+import org.data.extractor.metrics.ScraperMetrics;
+import org.data.extractor.repository.MemberExportRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.zip.GZIPOutputStream;
+
+
+/**
+ * Streams all periods and members from the database to a file, one row at a time:
+ * nothing is collected in memory, so the export runs in constant memory regardless
+ * of how many historical periods are stored. A target ending in ".gz" is gzip'd.
+ */
+@Service
+@Profile("!offline")
+public class MemberExporter {
+
+    public enum Format {
+        /** One member object per line, each carrying its period */
+        NDJSON,
+        /** A single array of periods, each with its nested members */
+        JSON
+    }
+
+    private final MemberExportRepository exportRepository;
+    private final ScraperMetrics metrics;
+
+    public MemberExporter(MemberExportRepository exportRepository, ScraperMetrics metrics) {
+        this.exportRepository = exportRepository;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Export to {@code target}, written to a temporary file first and moved into place when complete
+     *
+     * @return the number of members written
+     */
+    @Transactional(readOnly = true)
+    public long export(Path target, Format format) throws IOException {
+        long start = System.nanoTime();
+        Path absolute = target.toAbsolutePath();
+        Files.createDirectories(absolute.getParent());
+        Path temp = Files.createTempFile(absolute.getParent(), absolute.getFileName().toString(), ".part");
+
+        long rows;
+        try (Writer out = open(temp, absolute.getFileName().toString().endsWith(".gz"))) {
+            // Not closed itself: JsonWriter.close() rejects an empty NDJSON stream as an incomplete document
+            JsonWriter json = new JsonWriter(out);
+            json.setSerializeNulls(true);
+            rows = format == Format.NDJSON ? writeNdjson(out, json) : writeDocument(json);
+            json.flush();
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        metrics.export(format.name().toLowerCase(), elapsed, rows);
+        System.out.println("✓ Exported " + rows + " members to " + absolute + " in " + elapsed.toMillis() + "ms");
+        return rows;
+    }
+
+    private static Writer open(Path path, boolean gzip) throws IOException {
+        OutputStream stream = Files.newOutputStream(path);
+        if (gzip) {
+            stream = new GZIPOutputStream(stream, 64 * 1024);
+        }
+        return new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8), 64 * 1024);
+    }
+
+    private long writeNdjson(Writer out, JsonWriter json) {
+        // Several top-level values, separated by newlines written straight to the underlying writer
+        json.setLenient(true);
+        long[] rows = {0};
+        exportRepository.forEachMember(rs -> {
+            if (rs.getString("full_name") == null) {
+                return;
+            }
+            try {
+                json.beginObject();
+                writePeriodFields(json, rs);
+                writeMemberFields(json, rs);
+                json.endObject();
+                json.flush();
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            rows[0]++;
+        });
+        return rows[0];
+    }
+
+    private long writeDocument(JsonWriter json) throws IOException {
+        long[] rows = {0};
+        String[] currentPeriod = {null};
+
+        json.beginArray();
+        exportRepository.forEachMember(rs -> {
+            try {
+                String period = rs.getString("period_name");
+                if (!Objects.equals(period, currentPeriod[0])) {
+                    if (currentPeriod[0] != null) {
+                        json.endArray().endObject();
+                    }
+                    currentPeriod[0] = period;
+                    json.beginObject();
+                    writePeriodFields(json, rs);
+                    json.name("members").beginArray();
+                }
+                if (rs.getString("full_name") != null) {
+                    json.beginObject();
+                    writeMemberFields(json, rs);
+                    json.endObject();
+                    rows[0]++;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        if (currentPeriod[0] != null) {
+            json.endArray().endObject();
+        }
+        json.endArray();
+        return rows[0];
+    }
+
+    private static void writePeriodFields(JsonWriter json, ResultSet rs) throws IOException, SQLException {
+        json.name("periodName").value(rs.getString("period_name"));
+        json.name("startYear").value(rs.getInt("start_year"));
+        json.name("endYear").value(rs.getInt("end_year"));
+        json.name("isActive").value(rs.getBoolean("is_active"));
+    }
+
+    private static void writeMemberFields(JsonWriter json, ResultSet rs) throws IOException, SQLException {
+        json.name("name").value(rs.getString("full_name"));
+        json.name("parliamentaryGroup").value(rs.getString("group_name"));
+        json.name("email").value(rs.getString("email"));
+        json.name("profileUrl").value(rs.getString("profile_url"));
+        json.name("electoralDistrict").value(rs.getString("electoral_district"));
+        json.name("gender").value(rs.getString("gender"));
+        json.name("status").value(rs.getString("status"));
+        json.name("termStartDate").value(rs.getString("term_start_date"));
+        json.name("termEndDate").value(rs.getString("term_end_date"));
+    }
+}
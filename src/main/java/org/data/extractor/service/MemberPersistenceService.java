@@ -0,0 +1,84 @@
+package org.data.extractor.service;
+
+
+import lombok.RequiredArgsConstructor;
+import org.data.extractor.metrics.ScraperMetrics;
+import org.data.extractor.pojo.CongressMember;
+import org.data.extractor.pojo.MemberDelta;
+import org.data.extractor.pojo.MemberProfile;
+import org.data.extractor.pojo.ParliamentaryPeriod;
+import org.data.extractor.repository.CongressMemberBatchRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * Writes a whole period (period row, groups and members) in one transaction.
+ * Only the difference against the stored rows is written.
+ */
+@Service
+@Profile("!offline")
+@RequiredArgsConstructor
+public class MemberPersistenceService {
+
+    private final CongressMemberBatchRepository batchRepository;
+    private final ScraperMetrics metrics;
+    private final SnapshotDiffer snapshotDiffer;
+
+    @Transactional
+    public MemberDelta persistPeriod(String periodName, List<CongressMember> members) {
+        ParliamentaryPeriod period = ParliamentaryPeriod.fromName(periodName)
+                .orElseThrow(() -> new IllegalArgumentException("Not a parliamentary period: " + periodName));
+
+        int periodId = batchRepository.upsertPeriod(period);
+
+        MemberDelta delta = snapshotDiffer.diff(periodName, batchRepository.loadFingerprints(periodId), members);
+        if (delta.isEmpty()) {
+            System.out.println("  ✓ No member changes for " + periodName);
+            return delta;
+        }
+
+        List<CongressMember> changed = delta.changed();
+        Set<String> groups = new LinkedHashSet<>();
+        for (CongressMember member : changed) {
+            if (!member.parliamentaryGroup().isEmpty()) {
+                groups.add(member.parliamentaryGroup());
+            }
+        }
+        Map<String, Integer> groupIds = batchRepository.resolveGroupIds(groups);
+
+        metrics.dbSave("congress_members", () -> batchRepository.upsertMembers(periodId, changed, groupIds));
+        batchRepository.deleteMembers(periodId, delta.removed());
+        System.out.println("  ✓ Persisted member changes " + delta);
+        return delta;
+    }
+
+    /**
+     * Store a batch of profile details for members of the period
+     */
+    @Transactional
+    public void updateProfiles(String periodName, List<MemberProfile> profiles) {
+        batchRepository.updateProfiles(periodName, profiles);
+    }
+
+    /**
+     * Members whose profile was never stored or is older than {@code maxAge}, at most {@code limit}
+     */
+    @Transactional(readOnly = true)
+    public List<CongressMember> findProfilesDue(String periodName, Duration maxAge, int limit) {
+        return batchRepository.loadProfilesDue(periodName, Instant.now().minus(maxAge), limit);
+    }
+
+    @Transactional(readOnly = true)
+    public List<String> periodNames() {
+        return batchRepository.loadPeriods().stream().map(ParliamentaryPeriod::name).toList();
+    }
+}
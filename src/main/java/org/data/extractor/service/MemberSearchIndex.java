@@ -0,0 +1,270 @@
+package org.data.extractor.service;
+
+
+import org.data.extractor.metrics.ScraperMetrics;
+import org.data.extractor.pojo.CongressMember;
+import org.data.extractor.pojo.IndexedMember;
+import org.data.extractor.pojo.ParliamentaryPeriod;
+import org.data.extractor.pojo.SearchHit;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+
+/**
+ * In-memory index over all stored members, serving the read API without a database round trip.
+ * Names are accent-folded and indexed by token (prefix search) and by trigram (fuzzy search);
+ * periods and groups have posting lists of member ids. The index is immutable and rebuilt
+ * as a whole at startup and after each crawl, then swapped in with a single write.
+ */
+@Component
+public class MemberSearchIndex {
+
+    private static final double MIN_SIMILARITY = 0.3;
+
+    private final SnapshotStore snapshotStore;
+    private volatile Snapshot current = Snapshot.EMPTY;
+
+    /**
+     * Member ids are positions in {@code members}; every posting list is sorted ascending
+     */
+    private record Snapshot(List<IndexedMember> members,
+                            List<String> periods,
+                            Map<String, int[]> byPeriod,
+                            Map<String, int[]> byGroup,
+                            NavigableMap<String, int[]> byToken,
+                            Map<String, int[]> byGram,
+                            int[] gramCounts,
+                            Instant builtTime) {
+
+        static final Snapshot EMPTY = new Snapshot(List.of(), List.of(), Map.of(), Map.of(),
+                new TreeMap<>(), Map.of(), new int[0], Instant.EPOCH);
+    }
+
+    public MemberSearchIndex(SnapshotStore snapshotStore, ScraperMetrics metrics) {
+        this.snapshotStore = snapshotStore;
+        metrics.gauge("congreso.index.members", "Members in the in-memory search index", this,
+                index -> index.current.members().size());
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void onStartup() {
+        rebuild();
+    }
+
+    @EventListener
+    public void onCrawlCompleted(CrawlCompletedEvent event) {
+        rebuild();
+    }
+
+    /**
+     * Read everything from the snapshot store and replace the index; on failure the previous index stays
+     */
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        try {
+            current = build(snapshotStore);
+            System.out.println("✓ Member index built: " + current.members().size() + " members in "
+                    + current.periods().size() + " periods (" + Duration.ofNanos(System.nanoTime() - start).toMillis() + "ms)");
+        } catch (RuntimeException e) {
+            System.out.println("  ✗ Member index rebuild failed, keeping the previous one: " + e.getMessage());
+        }
+    }
+
+    public Instant builtTime() {
+        return current.builtTime();
+    }
+
+    public List<String> periods() {
+        return current.periods();
+    }
+
+    /**
+     * Members of a period, of a group, or of both; a null filter matches everything
+     */
+    public List<IndexedMember> members(String periodName, String group) {
+        Snapshot index = current;
+        int[] ids = null;
+        if (periodName != null) {
+            ids = index.byPeriod().getOrDefault(periodName, new int[0]);
+        }
+        if (group != null) {
+            int[] groupIds = index.byGroup().getOrDefault(normalize(group), new int[0]);
+            ids = ids == null ? groupIds : intersect(ids, groupIds);
+        }
+        if (ids == null) {
+            return index.members();
+        }
+        return resolve(index, ids);
+    }
+
+    /**
+     * Name search: members with a name token starting with every query token come first,
+     * then fuzzy matches ranked by trigram similarity
+     */
+    public List<SearchHit> search(String query, int limit) {
+        Snapshot index = current;
+        String normalized = normalize(query);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        List<SearchHit> hits = new ArrayList<>();
+        BitSet seen = new BitSet(index.members().size());
+        for (int id : prefixMatches(index, normalized.split(" "))) {
+            if (hits.size() == limit) {
+                return hits;
+            }
+            hits.add(new SearchHit(index.members().get(id), 1.0));
+            seen.set(id);
+        }
+
+        // Count shared trigrams per candidate, then rank by Dice coefficient
+        Set<String> queryGrams = grams(normalized);
+        int[] shared = new int[index.members().size()];
+        for (String gram : queryGrams) {
+            for (int id : index.byGram().getOrDefault(gram, new int[0])) {
+                shared[id]++;
+            }
+        }
+        List<SearchHit> fuzzy = new ArrayList<>();
+        for (int id = 0; id < shared.length; id++) {
+            if (shared[id] == 0 || seen.get(id)) {
+                continue;
+            }
+            double similarity = 2.0 * shared[id] / (queryGrams.size() + index.gramCounts()[id]);
+            if (similarity >= MIN_SIMILARITY) {
+                fuzzy.add(new SearchHit(index.members().get(id), similarity));
+            }
+        }
+        fuzzy.sort(Comparator.comparingDouble(SearchHit::score).reversed());
+        hits.addAll(fuzzy.subList(0, Math.min(fuzzy.size(), limit - hits.size())));
+        return hits;
+    }
+
+    private static int[] prefixMatches(Snapshot index, String[] tokens) {
+        int[] result = null;
+        for (String token : tokens) {
+            BitSet matches = new BitSet(index.members().size());
+            index.byToken().subMap(token, true, token + Character.MAX_VALUE, false)
+                    .values()
+                    .forEach(ids -> Arrays.stream(ids).forEach(matches::set));
+            int[] ids = matches.stream().toArray();
+            result = result == null ? ids : intersect(result, ids);
+            if (result.length == 0) {
+                break;
+            }
+        }
+        return result == null ? new int[0] : result;
+    }
+
+    private static Snapshot build(SnapshotStore store) {
+        List<IndexedMember> members = new ArrayList<>();
+        List<String> periods = new ArrayList<>();
+        Map<String, List<Integer>> byPeriod = new HashMap<>();
+        Map<String, List<Integer>> byGroup = new HashMap<>();
+        Map<String, List<Integer>> byToken = new HashMap<>();
+        Map<String, List<Integer>> byGram = new HashMap<>();
+        List<Integer> gramCounts = new ArrayList<>();
+
+        for (ParliamentaryPeriod period : store.findPeriods()) {
+            periods.add(period.name());
+            for (CongressMember member : store.findMembers(period.name()).orElse(List.of())) {
+                int id = members.size();
+                members.add(IndexedMember.of(period.name(), member));
+                byPeriod.computeIfAbsent(period.name(), k -> new ArrayList<>()).add(id);
+                if (member.parliamentaryGroup() != null && !member.parliamentaryGroup().isEmpty()) {
+                    byGroup.computeIfAbsent(normalize(member.parliamentaryGroup()), k -> new ArrayList<>()).add(id);
+                }
+
+                String name = normalize(member.name());
+                for (String token : new LinkedHashSet<>(Arrays.asList(name.split(" ")))) {
+                    if (!token.isEmpty()) {
+                        byToken.computeIfAbsent(token, k -> new ArrayList<>()).add(id);
+                    }
+                }
+                Set<String> grams = grams(name);
+                grams.forEach(gram -> byGram.computeIfAbsent(gram, k -> new ArrayList<>()).add(id));
+                gramCounts.add(grams.size());
+            }
+        }
+
+        return new Snapshot(List.copyOf(members), List.copyOf(periods),
+                toPostings(byPeriod), toPostings(byGroup), new TreeMap<>(toPostings(byToken)), toPostings(byGram),
+                gramCounts.stream().mapToInt(Integer::intValue).toArray(), Instant.now());
+    }
+
+    private static Map<String, int[]> toPostings(Map<String, List<Integer>> lists) {
+        Map<String, int[]> postings = new HashMap<>(lists.size() * 2);
+        lists.forEach((key, ids) -> postings.put(key, ids.stream().mapToInt(Integer::intValue).toArray()));
+        return postings;
+    }
+
+    private static List<IndexedMember> resolve(Snapshot index, int[] ids) {
+        List<IndexedMember> result = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            result.add(index.members().get(id));
+        }
+        return result;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    /**
+     * Trigrams of each token, padded so short names and word boundaries still produce grams
+     */
+    private static Set<String> grams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String token : normalized.split(" ")) {
+            if (token.isEmpty()) {
+                continue;
+            }
+            String padded = "  " + token + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                grams.add(padded.substring(i, i + 3));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * Accent-folded, lower-case, punctuation replaced by single spaces
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return ProfilePageParser.fold(text)
+                .replaceAll("[^\\p{L}\\p{N}]+", " ")
+                .trim();
+    }
+}
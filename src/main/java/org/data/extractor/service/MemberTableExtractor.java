@@ -0,0 +1,159 @@
+package org.data.extractor.service;
+
+import org.data.extractor.metrics.ScraperMetrics;
+import org.data.extractor.pojo.CongressMember;
+import org.jsoup.nodes.Element;
+import org.jsoup.parser.Parser;
+import org.jsoup.parser.StreamParser;
+import org.jsoup.select.Elements;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Single-pass extractor for the member table and the period dropdown.
+ * <p>
+ * Streams the HTML with Jsoup's {@link StreamParser} and drops every element as soon
+ * as it has been handled, so the full document tree is never built. Parsing stops
+ * once the first table is complete.
+ */
+@Component
+public class MemberTableExtractor {
+
+    private final String BASE_URL;
+    private final ScraperMetrics metrics;
+
+    @Autowired
+    public MemberTableExtractor(@Value("${congreso.base-url}") String baseUrl, ScraperMetrics metrics) {
+        this.BASE_URL = baseUrl;
+        this.metrics = metrics;
+    }
+
+    public MemberTableExtractor(String baseUrl) {
+        this(baseUrl, ScraperMetrics.standalone());
+    }
+
+    /**
+     * Members of the first table on the page, or empty when the page has no table
+     */
+    public Optional<List<CongressMember>> extractMembers(String html) {
+        return metrics.parse("members", () -> extractMembers(new StringReader(html)));
+    }
+
+    public Optional<List<CongressMember>> extractMembers(Reader html) {
+        List<CongressMember> members = new ArrayList<>();
+        Element memberTable = null;
+        boolean headerSkipped = false;
+
+        try (StreamParser parser = new StreamParser(Parser.htmlParser()).parse(html, BASE_URL)) {
+            Iterator<Element> elements = parser.iterator();
+            while (elements.hasNext()) {
+                Element element = elements.next();
+
+                switch (element.normalName()) {
+                    case "tr" -> {
+                        Element table = element.closest("table");
+                        if (memberTable == null) {
+                            memberTable = table;
+                        }
+                        if (table == memberTable) {
+                            // Skip header row
+                            if (headerSkipped) {
+                                toMember(element).ifPresent(members::add);
+                            }
+                            headerSkipped = true;
+                        }
+                        element.remove();
+                    }
+                    case "table" -> {
+                        // The first table to complete, with or without rows, is the member table
+                        if (memberTable == null || element == memberTable) {
+                            return Optional.of(members);
+                        }
+                    }
+                    default -> {
+                        // Everything outside a table is not needed once it is complete
+                        if (element.closest("table") == null) {
+                            element.remove();
+                        }
+                    }
+                }
+            }
+        }
+
+        return memberTable == null ? Optional.empty() : Optional.of(members);
+    }
+
+    /**
+     * Option texts of the first dropdown on the page
+     */
+    public List<String> extractPeriodOptions(String html) {
+        return metrics.parse("period-options", () -> streamPeriodOptions(html));
+    }
+
+    private List<String> streamPeriodOptions(String html) {
+        try (StreamParser parser = new StreamParser(Parser.htmlParser()).parse(html, BASE_URL)) {
+            Element select = parser.selectFirst("select");
+            if (select == null) {
+                return Collections.emptyList();
+            }
+            return select.select("option").eachText();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Text of the selected option in the dropdown named {@code selectName}; parsing stops once that dropdown is complete
+     */
+    public Optional<String> extractSelectedOption(String html, String selectName) {
+        return metrics.parse("selected-option", () -> streamSelectedOption(html, selectName));
+    }
+
+    private Optional<String> streamSelectedOption(String html, String selectName) {
+        try (StreamParser parser = new StreamParser(Parser.htmlParser()).parse(html, BASE_URL)) {
+            Element select = parser.selectFirst("select[name=" + selectName + "]");
+            return Optional.ofNullable(select)
+                    .map(s -> s.selectFirst("option[selected]"))
+                    .map(option -> option.text().trim());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Optional<CongressMember> toMember(Element row) {
+        Elements cols = row.select("td");
+
+        if (cols.size() < 3) {
+            return Optional.empty();
+        }
+
+        // Extract name and profile URL
+        Element nameLink = cols.get(1).selectFirst("a");
+        if (nameLink == null) {
+            return Optional.empty();
+        }
+
+        String name = nameLink.text().trim();
+        String profileUrl = BASE_URL + nameLink.attr("href");
+
+        // Extract parliamentary group
+        String group = cols.get(2).text().trim();
+
+        // Extract email
+        Element emailLink = cols.size() > 3 ? cols.get(3).selectFirst("a") : null;
+        String email = emailLink != null ? emailLink.text().trim() : "";
+
+        return Optional.of(new CongressMember(name, group, email, profileUrl));
+    }
+}
@@ -0,0 +1,118 @@
+package org.data.extractor.service;
+
+
+import org.data.extractor.entity.PageContent;
+import org.data.extractor.metrics.ScraperMetrics;
+import org.data.extractor.repository.PageContentRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+
+/**
+ * Content-addressed store for page HTML: pages are keyed by their SHA-256 hash and
+ * kept deflate-compressed, so identical snapshots are stored only once.
+ */
+@Service
+@Profile("!offline")
+public class PageContentStore {
+
+    static final String CODEC_DEFLATE = "deflate";
+
+    private final PageContentRepository repository;
+    private final ScraperMetrics metrics;
+    private final int compressionLevel;
+
+    public PageContentStore(PageContentRepository repository,
+                            ScraperMetrics metrics,
+                            @Value("${storage.compression-level:6}") int compressionLevel) {
+        this.repository = repository;
+        this.metrics = metrics;
+        this.compressionLevel = compressionLevel;
+    }
+
+    /**
+     * Store the page (if not already there) and return its content hash
+     */
+    @Transactional
+    public String store(String html) {
+        byte[] raw = html.getBytes(StandardCharsets.UTF_8);
+        String hash = hash(raw);
+        if (repository.existsById(hash)) {
+            metrics.blobSize(raw.length, 0, true);
+            return hash;
+        }
+        byte[] compressed = deflate(raw);
+        metrics.dbSave("page_content", () -> repository.insertIfAbsent(hash, CODEC_DEFLATE, raw.length, compressed));
+        metrics.blobSize(raw.length, compressed.length, false);
+        return hash;
+    }
+
+    /**
+     * Load and decompress the page stored under the hash
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> load(String hash) {
+        return repository.findById(hash).map(content -> inflate(content.getCompressed(), content.getRawLength()));
+    }
+
+    public static String hash(String html) {
+        return hash(html.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String hash(byte[] raw) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(raw));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(compressionLevel);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 8));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static String inflate(byte[] compressed, int rawLength) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            byte[] raw = new byte[rawLength];
+            int read = 0;
+            while (read < rawLength && !inflater.finished()) {
+                int n = inflater.inflate(raw, read, rawLength - read);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                read += n;
+            }
+            return new String(raw, 0, read, StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt page content", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package org.data.extractor.service;
+
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import org.data.extractor.entity.PageFragment;
+import org.data.extractor.pojo.CongressMember;
+import org.data.extractor.repository.PageFragmentRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+
+/**
+ * Keeps the member rows and period options of each stored page next to the raw HTML,
+ * so readers get a few KB of JSON instead of inflating and re-parsing the whole page.
+ * Pages stored before fragments existed are reprocessed from their raw HTML on first read.
+ */
+@Service
+@Profile("!offline")
+public class PageFragmentStore {
+
+    /**
+     * Bump when the JSON layout changes; fragments of an older version are rebuilt from the raw page
+     */
+    static final int FORMAT_VERSION = 1;
+
+    private static final Gson GSON = new Gson();
+    private static final Type ROWS = new TypeToken<List<String[]>>() {}.getType();
+    private static final Type OPTIONS = new TypeToken<List<String>>() {}.getType();
+
+    private final PageFragmentRepository repository;
+    private final MemberTableExtractor extractor;
+
+    public PageFragmentStore(PageFragmentRepository repository, MemberTableExtractor extractor) {
+        this.repository = repository;
+        this.extractor = extractor;
+    }
+
+    /**
+     * Extract and store the fragment of a page, unless it already exists for that content
+     */
+    @Transactional
+    public void store(String contentHash, String html) {
+        if (repository.findById(contentHash).filter(PageFragmentStore::isCurrent).isPresent()) {
+            return;
+        }
+        write(contentHash, html);
+    }
+
+    /**
+     * Members of the page's table; empty when the page has no table
+     */
+    @Transactional
+    public Optional<List<CongressMember>> members(String contentHash, Supplier<Optional<String>> rawPage) {
+        return fragment(contentHash, rawPage)
+                .filter(fragment -> fragment.getMemberCount() != null)
+                .map(fragment -> {
+                    List<String[]> rows = GSON.fromJson(fragment.getMembers(), ROWS);
+                    return rows.stream()
+                            .map(row -> new CongressMember(row[0], row[1], row[2], row[3]))
+                            .toList();
+                });
+    }
+
+    @Transactional
+    public Optional<List<String>> periodOptions(String contentHash, Supplier<Optional<String>> rawPage) {
+        return fragment(contentHash, rawPage).map(fragment -> GSON.fromJson(fragment.getPeriodOptions(), OPTIONS));
+    }
+
+    private Optional<PageFragment> fragment(String contentHash, Supplier<Optional<String>> rawPage) {
+        Optional<PageFragment> stored = repository.findById(contentHash).filter(PageFragmentStore::isCurrent);
+        if (stored.isPresent()) {
+            return stored;
+        }
+        // Only reprocessing needs the raw page
+        return rawPage.get().map(html -> write(contentHash, html));
+    }
+
+    private PageFragment write(String contentHash, String html) {
+        Optional<List<CongressMember>> members = extractor.extractMembers(html);
+        PageFragment fragment = PageFragment.builder()
+                .contentHash(contentHash)
+                .formatVersion(FORMAT_VERSION)
+                .memberCount(members.map(List::size).orElse(null))
+                .members(GSON.toJson(members.orElse(List.of()).stream()
+                        .map(member -> new String[]{member.name(), member.parliamentaryGroup(), member.email(), member.profileUrl()})
+                        .toList(), ROWS))
+                .periodOptions(GSON.toJson(extractor.extractPeriodOptions(html), OPTIONS))
+                .build();
+
+        if (repository.existsById(contentHash)) {
+            return repository.save(fragment);
+        }
+        repository.insertIfAbsent(contentHash, fragment.getFormatVersion(), fragment.getMemberCount(),
+                fragment.getMembers(), fragment.getPeriodOptions());
+        return fragment;
+    }
+
+    private static boolean isCurrent(PageFragment fragment) {
+        return fragment.getFormatVersion() == FORMAT_VERSION;
+    }
+}
@@ -1,33 +1,30 @@
 package org.data.extractor.service;
 
 import lombok.RequiredArgsConstructor;
-import org.data.extractor.entity.Webpage;
-import org.data.extractor.repository.WebpageRepository;
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
+import org.data.extractor.repository.WebpageSummary;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
-import java.time.Instant;
-import java.time.temporal.ChronoUnit;
 import java.util.Optional;
 
 @Service
+@Profile("!offline")
 @RequiredArgsConstructor
 public class PageScraper {
 
+    public static final String PERIODS_PAGE = "Parliamentary PERIODS ONLY";
+
     @Value("${congreso.base-url}")
     private String BASE_URL;
 
-    private final HttpClient client;
+    private final HttpPageClient httpPageClient;
 
-    private final WebpageRepository repository;
     private final WebpageRepositoryService webpageRepositoryService;
+    private final ParsedDocumentCache parsedDocumentCache;
+    private final RefreshPolicy refreshPolicy;
 
     /**
      * Extract all parliamentary periods from the dropdown on the webpage
@@ -35,40 +32,67 @@ public class PageScraper {
     public String extractPeriodsFromPage() throws IOException, InterruptedException {
 
         System.out.println("Fetching page from " + BASE_URL);
-        // Fetch the page
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(BASE_URL))
-                .GET()
-                .build();
 
-        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        // Revalidate the last stored copy instead of downloading it again
+        Optional<WebpageSummary> previous = webpageRepositoryService.findLatest(PERIODS_PAGE)
+                .filter(summary -> summary.getContentHash() != null);
+
+        HttpPageClient.FetchResult response = httpPageClient.get(URI.create(BASE_URL),
+                previous.map(WebpageSummary::getEtag).orElse(null),
+                previous.map(WebpageSummary::getLastModified).orElse(null));
+
+        if (response.notModified() && previous.isPresent()) {
+            Optional<String> stored = webpageRepositoryService.loadPage(previous.get());
+            if (stored.isPresent()) {
+                System.out.println("  ✓ Not modified since last fetch");
+                webpageRepositoryService.refreshSnapshot(previous.get());
+                return stored.get();
+            }
+        }
+        if (response.notModified()) {
+            // Nothing usable stored locally, fetch unconditionally
+            response = httpPageClient.get(URI.create(BASE_URL));
+        }
 
-        repository.save(Webpage.builder().pageBlob(response.body()).parliamentaryPeriod("Parliamentary PERIODS ONLY").build());
+        webpageRepositoryService.saveSnapshot(PERIODS_PAGE, response.body(), response.etag(), response.lastModified());
 
         return response.body();
     }
 
-    private Optional<String> getTheLatestFetchedPage() {
-        return repository.findAll().stream()
-                .filter(webpage -> webpage.getInsertedTime().isAfter(Instant.now().minus(1, ChronoUnit.DAYS)))
-                .map(Webpage::getPageBlob)
-                .peek(s -> System.out.println("Found in DB"))
-                .findFirst();
+    private Optional<ParsedDocumentCache.PageRef> getTheLatestFetchedPage() {
+        Optional<ParsedDocumentCache.PageRef> page = webpageRepositoryService
+                .findLatestSince(PERIODS_PAGE, refreshPolicy.maxAge(PERIODS_PAGE))
+                .flatMap(summary -> webpageRepositoryService.loadPage(summary)
+                        .map(html -> toPageRef(summary.getContentHash(), html)));
+        page.ifPresent(s -> System.out.println("Found in DB"));
+        return page;
     }
 
-    public Document loadDocument() {
+    /**
+     * Latest base page with its content hash: from memory, from the database when it is
+     * newer than its refresh interval, or from the network
+     */
+    public ParsedDocumentCache.PageRef latestPage() {
+        return parsedDocumentCache.page(PERIODS_PAGE, () ->
+                //is the stored page still within its refresh interval?
+                getTheLatestFetchedPage().orElseGet(() -> {
+                    try {
+                        return toPageRef(null, extractPeriodsFromPage());
+                    } catch (IOException | InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                }));
+    }
 
-        //has the page already loaded today?
-        String body = getTheLatestFetchedPage().orElseGet(() -> {
-            try {
-                return extractPeriodsFromPage();
-            } catch (IOException | InterruptedException e) {
-                throw new RuntimeException(e);
-            }
-        });
-        Jsoup.parse(body);
+    /**
+     * Raw HTML of the base page
+     */
+    public String loadPage() {
+        return latestPage().html();
+    }
 
-        return Jsoup.parse(body);
+    private static ParsedDocumentCache.PageRef toPageRef(String contentHash, String html) {
+        return new ParsedDocumentCache.PageRef(PERIODS_PAGE, contentHash != null ? contentHash : PageContentStore.hash(html), html);
     }
 
 }
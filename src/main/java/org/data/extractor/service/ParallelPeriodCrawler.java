@@ -0,0 +1,94 @@
+package org.data.extractor.service;
+
+import org.data.extractor.entity.CrawlPeriodState;
+import org.data.extractor.entity.CrawlRun;
+import org.data.extractor.pojo.CongressMember;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Crawls parliamentary periods through the staged {@link CrawlPipeline}. Browser work is
+ * additionally bounded by the WebDriver pool: Selenium fetches block in checkout until a driver is free.
+ * Progress is checkpointed per period, so a restart resumes the unfinished run.
+ * Several instances can crawl the same run: each only works on the periods it leased.
+ */
+@Service
+@Profile("!offline")
+public class ParallelPeriodCrawler {
+
+    private final CrawlPipeline pipeline;
+    private final CrawlCheckpointService checkpoints;
+    private final ApplicationEventPublisher events;
+    private final int batchSize;
+    private final Duration pollInterval;
+
+    public ParallelPeriodCrawler(CrawlPipeline pipeline,
+                                 CrawlCheckpointService checkpoints,
+                                 ApplicationEventPublisher events,
+                                 @Value("${crawler.max-concurrency:8}") int batchSize,
+                                 @Value("${crawler.lease-poll-seconds:10}") long pollSeconds) {
+        this.pipeline = pipeline;
+        this.checkpoints = checkpoints;
+        this.events = events;
+        this.batchSize = batchSize;
+        this.pollInterval = Duration.ofSeconds(pollSeconds);
+    }
+
+    /**
+     * Crawl all periods, resuming the previous run if it did not finish. Periods already
+     * persisted are skipped; failed ones are retried with backoff until they run out of attempts.
+     * Periods are leased a batch at a time, so other instances share the same run.
+     * Results hold the members of periods processed by this instance, in input order.
+     */
+    public Map<String, List<CongressMember>> crawl(List<String> periods) {
+        CrawlRun run = checkpoints.startOrResume(periods);
+        Map<String, List<CongressMember>> results = new LinkedHashMap<>();
+        periods.forEach(period -> results.put(period, List.of()));
+        System.out.println("Worker " + checkpoints.getWorkerId() + " crawling run " + run.getId());
+
+        while (true) {
+            List<CrawlPeriodState> claimed = checkpoints.claim(run, batchSize);
+            if (claimed.isEmpty()) {
+                // Nothing claimable: wait for a retry to fall due or another worker's lease to end
+                Optional<Instant> wakeUp = checkpoints.nextWakeUp(run);
+                if (wakeUp.isEmpty() || !sleepUntil(wakeUp.get())) {
+                    break;
+                }
+                continue;
+            }
+            results.putAll(pipeline.process(claimed));
+        }
+
+        checkpoints.finish(run);
+        events.publishEvent(new CrawlCompletedEvent(run.getId(),
+                (int) results.values().stream().filter(members -> !members.isEmpty()).count()));
+        return results;
+    }
+
+    private boolean sleepUntil(Instant when) {
+        Duration wait = Duration.between(Instant.now(), when);
+        if (wait.isNegative() || wait.isZero()) {
+            wait = Duration.ofSeconds(1);
+        }
+        if (wait.compareTo(pollInterval) > 0) {
+            wait = pollInterval;
+        }
+        System.out.println("Waiting " + wait.toSeconds() + "s for claimable periods...");
+        try {
+            Thread.sleep(wait);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -2,116 +2,82 @@ package org.data.extractor.service;
 
 import lombok.RequiredArgsConstructor;
 import org.data.extractor.pojo.CongressMember;
-import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
-import org.jsoup.select.Elements;
-import org.springframework.beans.factory.annotation.Value;
+import org.data.extractor.repository.WebpageSummary;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
-import java.io.IOException;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 @Service
+@Profile("!offline")
 @RequiredArgsConstructor
 public class ParseDocument {
 
-    @Value("${congreso.base-url}")
-    private String BASE_URL;
-
     private final PageScraper pageScraper;
+    private final MemberTableExtractor memberTableExtractor;
+    private final CongressFetcher congressFetcher;
+    private final WebpageRepositoryService webpageRepositoryService;
+    private final ParsedDocumentCache parsedDocumentCache;
+    private final RefreshPolicy refreshPolicy;
 
     public List<CongressMember> getAllCongressMembers() {
+        ParsedDocumentCache.PageRef page = pageScraper.latestPage();
+        return parsedDocumentCache.members(page, () -> storedBasePage(page)
+                .flatMap(webpageRepositoryService::loadMembers)
+                .or(() -> memberTableExtractor.extractMembers(page.html()))
+                .orElseThrow(() -> new IllegalStateException("Table not found on page")));
+    }
 
-        Document doc = pageScraper.loadDocument();
-
-        Element table = doc.selectFirst("table");
 
-        if (table == null) {
-            throw new IllegalStateException("Table not found on page");
+    public List<CongressMember> getAllCongressMembersForParlamentaryPeriod(String parlamentaryPeriod) {
+        // Stored snapshots are read through their compact fragment, not the raw page
+        Optional<WebpageSummary> stored = webpageRepositoryService.findLatestSince(parlamentaryPeriod, refreshPolicy.maxAge(parlamentaryPeriod))
+                .filter(summary -> summary.getContentHash() != null);
+        if (stored.isPresent()) {
+            ParsedDocumentCache.PageRef page = new ParsedDocumentCache.PageRef(parlamentaryPeriod, stored.get().getContentHash(), null);
+            return parsedDocumentCache.members(page, () -> webpageRepositoryService.loadMembers(stored.get())
+                    .orElseThrow(() -> new IllegalStateException("Table not found on page")));
         }
 
-        List<CongressMember> members = new ArrayList<>();
-        Elements rows = table.select("tr");
-
-        // Skip header row
-        for (int i = 1; i < rows.size(); i++) {
-            Element row = rows.get(i);
-            Elements cols = row.select("td");
-
-            if (cols.size() >= 3) {
-                // Extract name and profile URL
-                Element nameLink = cols.get(1).selectFirst("a");
-                if (nameLink == null) continue;
-
-                String name = nameLink.text().trim();
-                String profileUrl = BASE_URL + nameLink.attr("href");
-
-                // Extract parliamentary group
-                String group = cols.get(2).text().trim();
-
-                // Extract email
-                Element emailLink = cols.get(3).selectFirst("a");
-                String email = emailLink != null ? emailLink.text().trim() : "";
-
-                members.add(new CongressMember(name, group, email, profileUrl));
-            }
+        CongressFetcher.FetchedPage fetched = congressFetcher.fetchPage(parlamentaryPeriod)
+                .orElseThrow(() -> new IllegalStateException("Table not found on page"));
+        List<CongressMember> members = (fetched.isStored()
+                ? webpageRepositoryService.loadMembers(fetched.snapshot())
+                : memberTableExtractor.extractMembers(fetched.html()))
+                .orElseThrow(() -> new IllegalStateException("Table not found on page"));
+        if (!fetched.isStored()) {
+            webpageRepositoryService.saveSnapshot(parlamentaryPeriod, fetched.html());
         }
-
+        parsedDocumentCache.invalidatePage(parlamentaryPeriod);
         return members;
     }
 
 
-    public List<CongressMember> getAllCongressMembersForParlamentaryPeriod(String parlamentaryPeriod) throws IOException, InterruptedException {
-
-        Document doc = pageScraper.loadDocument();
-        Element table = doc.selectFirst("table");
-
-        if (table == null) {
-            throw new IllegalStateException("Table not found on page");
-        }
-
-        List<CongressMember> members = new ArrayList<>();
-        Elements rows = table.select("tr");
-
-        // Skip header row
-        for (int i = 1; i < rows.size(); i++) {
-            Element row = rows.get(i);
-            Elements cols = row.select("td");
-
-            if (cols.size() >= 3) {
-                // Extract name and profile URL
-                Element nameLink = cols.get(1).selectFirst("a");
-                if (nameLink == null) continue;
-
-                String name = nameLink.text().trim();
-                String profileUrl = BASE_URL + nameLink.attr("href");
-
-                // Extract parliamentary group
-                String group = cols.get(2).text().trim();
-
-                // Extract email
-                Element emailLink = cols.get(3).selectFirst("a");
-                String email = emailLink != null ? emailLink.text().trim() : "";
-
-                members.add(new CongressMember(name, group, email, profileUrl));
-            }
+    public List<String> getAllParliamentaryPeriods()  {
+        ParsedDocumentCache.PageRef page = pageScraper.latestPage();
+        List<String> periods = parsedDocumentCache.periodOptions(page, () -> periodOptions(page));
+        if (periods.isEmpty()) {
+            System.out.println("Warning: Period dropdown not found, using hardcoded list");
         }
-
-        return members;
+        return periods;
     }
 
+    private List<String> periodOptions(ParsedDocumentCache.PageRef page) {
+        return storedBasePage(page)
+                .flatMap(webpageRepositoryService::loadPeriodOptions)
+                .orElseGet(() -> memberTableExtractor.extractPeriodOptions(page.html()));
+    }
 
-    public List<String> getAllParliamentaryPeriods()  {
-        Document doc = pageScraper.loadDocument();
-        Element periodSelect = doc.selectFirst("select");
-        if (periodSelect == null) {
-            System.out.println("Warning: Period dropdown not found, using hardcoded list");
-            return Collections.emptyList();
+    /**
+     * The stored snapshot the base page came from, whose fragment can stand in for parsing the HTML
+     */
+    private Optional<WebpageSummary> storedBasePage(ParsedDocumentCache.PageRef page) {
+        if (page.contentHash() == null) {
+            return Optional.empty();
         }
-        Elements options = periodSelect.select("option");
-        return options.eachText();
+        return webpageRepositoryService.findLatest(PageScraper.PERIODS_PAGE)
+                .filter(summary -> page.contentHash().equals(summary.getContentHash()));
     }
 
 }
@@ -0,0 +1,76 @@
+package org.data.extractor.service;
+
+import org.data.extractor.metrics.ScraperMetrics;
+import org.data.extractor.pojo.CongressMember;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * In-memory cache in front of page loading and parsing.
+ * <p>
+ * The latest page of each source (base page or period) is kept for a short TTL, so repeated
+ * lookups skip the database. Extracted lists are keyed by source and content hash, so they stay valid for as long as the page content does.
+ */
+@Component
+public class ParsedDocumentCache {
+
+    /**
+     * Latest known content of a source
+     */
+    public record PageRef(String source, String contentHash, String html) {
+        public PageKey key() {
+            return new PageKey(source, contentHash);
+        }
+    }
+
+    public record PageKey(String source, String contentHash) {}
+
+    private final BoundedCache<String, PageRef> pages;
+    private final BoundedCache<PageKey, List<CongressMember>> members;
+    private final BoundedCache<PageKey, List<String>> periodOptions;
+
+    public ParsedDocumentCache(ScraperMetrics metrics,
+                               @Value("${cache.max-entries:64}") int maxEntries,
+                               @Value("${cache.page-ttl-seconds:300}") long pageTtlSeconds,
+                               @Value("${cache.parsed-ttl-seconds:3600}") long parsedTtlSeconds) {
+        Duration parsedTtl = Duration.ofSeconds(parsedTtlSeconds);
+        this.pages = new BoundedCache<>("pages", maxEntries, Duration.ofSeconds(pageTtlSeconds));
+        this.members = new BoundedCache<>("members", maxEntries, parsedTtl);
+        this.periodOptions = new BoundedCache<>("period-options", maxEntries, parsedTtl);
+
+        for (BoundedCache<?, ?> cache : List.of(pages, members, periodOptions)) {
+            String name = cache.stats().name();
+            metrics.counter("congreso.cache.requests", "Cache lookups", cache, c -> c.stats().hits(), "cache", name, "result", "hit");
+            metrics.counter("congreso.cache.requests", "Cache lookups", cache, c -> c.stats().misses(), "cache", name, "result", "miss");
+            metrics.counter("congreso.cache.evictions", "Entries evicted by size or TTL", cache, c -> c.stats().evictions(), "cache", name);
+            metrics.gauge("congreso.cache.size", "Entries in the cache", cache, c -> c.stats().size(), "cache", name);
+        }
+    }
+
+    public PageRef page(String source, Supplier<PageRef> loader) {
+        return pages.get(source, loader);
+    }
+
+    public void invalidatePage(String source) {
+        pages.invalidate(source);
+    }
+
+    public List<CongressMember> members(PageRef page, Supplier<List<CongressMember>> extractor) {
+        return members.get(page.key(), () -> {
+            List<CongressMember> extracted = extractor.get();
+            return extracted == null ? null : List.copyOf(extracted);
+        });
+    }
+
+    public List<String> periodOptions(PageRef page, Supplier<List<String>> extractor) {
+        return periodOptions.get(page.key(), () -> List.copyOf(extractor.get()));
+    }
+
+    public List<BoundedCache.Stats> stats() {
+        return List.of(pages.stats(), members.stats(), periodOptions.stats());
+    }
+}
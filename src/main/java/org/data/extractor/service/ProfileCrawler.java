@@ -0,0 +1,208 @@
+package org.data.extractor.service;
+
+import org.data.extractor.pojo.CongressMember;
+import org.data.extractor.pojo.MemberProfile;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Follows {@link CongressMember#profileUrl()} for a whole period concurrently on virtual threads.
+ * <p>
+ * Requests are bounded per host and by a shared token bucket; I/O errors, 429 and 5xx are
+ * retried with jittered exponential backoff, other 4xx fail at once. Profiles are handed to
+ * the persistence layer in small batches as they arrive instead of after the whole period finished.
+ * <p>
+ * Profiles are also refreshed on their own schedule: a member whose profile was never stored
+ * (a failed fetch) or is older than {@code profiles.refresh-interval} is fetched again even when
+ * its list row did not change, since status or district only show on the profile page.
+ */
+@Service
+@Profile("!offline")
+public class ProfileCrawler {
+
+    private static final MemberProfile FAILED = new MemberProfile(null, null, null, null, null, null);
+
+    private final HttpPageClient httpPageClient;
+    private final ProfilePageParser parser;
+    private final MemberPersistenceService persistenceService;
+
+    private final boolean enabled;
+    private final Duration refreshInterval;
+    private final int maxDuePerPeriod;
+    private final int maxPerHost;
+    private final int maxAttempts;
+    private final Duration backoffBase;
+    private final Duration backoffMax;
+    private final int batchSize;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final Map<String, Semaphore> hostLimits = new ConcurrentHashMap<>();
+
+    public ProfileCrawler(HttpPageClient httpPageClient,
+                          ProfilePageParser parser,
+                          MemberPersistenceService persistenceService,
+                          @Value("${profiles.max-per-host:8}") int maxPerHost,
+                          @Value("${profiles.rate-per-second:5}") double ratePerSecond,
+                          @Value("${profiles.burst:10}") int burst,
+                          @Value("${profiles.max-attempts:4}") int maxAttempts,
+                          @Value("${profiles.backoff-base-ms:500}") long backoffBaseMs,
+                          @Value("${profiles.backoff-max-ms:10000}") long backoffMaxMs,
+                          @Value("${profiles.batch-size:25}") int batchSize,
+                          @Value("${profiles.enabled:true}") boolean enabled,
+                          @Value("${profiles.refresh-interval:P30D}") Duration refreshInterval,
+                          @Value("${profiles.max-due-per-period:200}") int maxDuePerPeriod) {
+        this.httpPageClient = httpPageClient;
+        this.parser = parser;
+        this.persistenceService = persistenceService;
+        this.maxPerHost = maxPerHost;
+        this.maxAttempts = maxAttempts;
+        this.backoffBase = Duration.ofMillis(backoffBaseMs);
+        this.backoffMax = Duration.ofMillis(backoffMaxMs);
+        this.batchSize = batchSize;
+        this.rateLimiter = new TokenBucketRateLimiter(ratePerSecond, burst);
+        this.enabled = enabled;
+        this.refreshInterval = refreshInterval;
+        this.maxDuePerPeriod = maxDuePerPeriod;
+    }
+
+    /**
+     * Enrich the members a crawl just changed, together with the period's members whose profile is due
+     */
+    public int enrichChangedAndDue(String periodName, List<CongressMember> changed) throws InterruptedException {
+        Map<String, CongressMember> byUrl = new LinkedHashMap<>();
+        for (CongressMember member : changed) {
+            if (member.profileUrl() != null && !member.profileUrl().isBlank()) {
+                byUrl.putIfAbsent(member.profileUrl(), member);
+            }
+        }
+        for (CongressMember member : persistenceService.findProfilesDue(periodName, refreshInterval, maxDuePerPeriod)) {
+            byUrl.putIfAbsent(member.profileUrl(), member);
+        }
+        return byUrl.isEmpty() ? 0 : enrichPeriod(periodName, List.copyOf(byUrl.values()));
+    }
+
+    /**
+     * Catch up on missing and stale profiles of every period, independent of list changes
+     */
+    @Scheduled(initialDelayString = "${profiles.refresh-initial-delay-ms:300000}", fixedDelayString = "${profiles.refresh-tick-ms:3600000}")
+    public void refreshDueProfiles() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            for (String period : persistenceService.periodNames()) {
+                List<CongressMember> due = persistenceService.findProfilesDue(period, refreshInterval, maxDuePerPeriod);
+                if (!due.isEmpty()) {
+                    enrichPeriod(period, due);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Fetch the profiles of all members of the period and store them as they arrive.
+     * Returns the number of profiles stored.
+     */
+    public int enrichPeriod(String periodName, List<CongressMember> members) throws InterruptedException {
+        BlockingQueue<MemberProfile> arrived = new LinkedBlockingQueue<>();
+        List<CongressMember> withProfile = members.stream()
+                .filter(member -> member.profileUrl() != null && !member.profileUrl().isBlank())
+                .toList();
+
+        System.out.println("  → Fetching " + withProfile.size() + " profiles for " + periodName);
+        AtomicInteger failed = new AtomicInteger();
+        int stored = 0;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (CongressMember member : withProfile) {
+                executor.submit(() -> {
+                    try {
+                        arrived.put(fetchProfile(member.profileUrl()));
+                    } catch (Exception e) {
+                        failed.incrementAndGet();
+                        System.out.println("  ✗ Profile failed " + member.profileUrl() + ": " + e.getMessage());
+                        arrived.add(FAILED);
+                    }
+                    return null;
+                });
+            }
+
+            // Drain on the calling thread while the fetches are still running
+            List<MemberProfile> batch = new ArrayList<>(batchSize);
+            for (int received = 0; received < withProfile.size(); received++) {
+                MemberProfile profile = arrived.take();
+                if (profile != FAILED) {
+                    batch.add(profile);
+                }
+                if (batch.size() >= batchSize) {
+                    stored += flush(periodName, batch);
+                }
+            }
+            stored += flush(periodName, batch);
+        }
+
+        System.out.println("  ✓ Stored " + stored + " profiles for " + periodName + " (" + failed.get() + " failed)");
+        return stored;
+    }
+
+    private int flush(String periodName, List<MemberProfile> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        persistenceService.updateProfiles(periodName, batch);
+        int size = batch.size();
+        batch.clear();
+        return size;
+    }
+
+    private MemberProfile fetchProfile(String profileUrl) throws IOException, InterruptedException {
+        URI uri = URI.create(profileUrl);
+        Semaphore hostLimit = hostLimits.computeIfAbsent(uri.getHost(), host -> new Semaphore(maxPerHost));
+
+        for (int attempt = 1; ; attempt++) {
+            rateLimiter.acquire();
+            hostLimit.acquire();
+            try {
+                String html = httpPageClient.get(uri).body();
+                return parser.parse(profileUrl, html);
+            } catch (IOException e) {
+                // A 404 or 410 profile stays gone; only I/O errors, 429 and 5xx are worth another request
+                boolean retryable = !(e instanceof HttpPageClient.StatusException status) || status.isRetryable();
+                if (!retryable || attempt >= maxAttempts) {
+                    throw e;
+                }
+            } finally {
+                hostLimit.release();
+            }
+            TimeUnit.MILLISECONDS.sleep(backoff(attempt));
+        }
+    }
+
+    /**
+     * Exponential backoff with full jitter
+     */
+    private long backoff(int attempt) {
+        long cap = Math.min(backoffMax.toMillis(), backoffBase.toMillis() << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(cap + 1);
+    }
+}
@@ -0,0 +1,116 @@
+package org.data.extractor.service;
+
+import org.data.extractor.pojo.MemberProfile;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Reads the labelled fields ("Representa a:", "Condición:", ...) from a member profile page
+ */
+@Component
+public class ProfilePageParser {
+
+    private static final List<String> DISTRICT_LABELS = List.of("representa a", "region", "departamento", "distrito electoral");
+    private static final List<String> GENDER_LABELS = List.of("sexo", "genero");
+    private static final List<String> STATUS_LABELS = List.of("condicion", "estado");
+    private static final List<String> TERM_LABELS = List.of("periodo de funciones", "periodo");
+    private static final List<String> TERM_START_LABELS = List.of("inicio de funciones", "fecha de inicio");
+    private static final List<String> TERM_END_LABELS = List.of("fin de funciones", "fecha de fin", "fecha de cese");
+
+    private static final Pattern DATE_PATTERN = Pattern.compile("(\\d{2}/\\d{2}/\\d{4})");
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    public MemberProfile parse(String profileUrl, String html) {
+        Document doc = Jsoup.parse(html, profileUrl);
+
+        Optional<String> term = labelledValue(doc, TERM_LABELS);
+        LocalDate termStart = labelledValue(doc, TERM_START_LABELS).flatMap(ProfilePageParser::firstDate)
+                .or(() -> term.flatMap(ProfilePageParser::firstDate))
+                .orElse(null);
+        LocalDate termEnd = labelledValue(doc, TERM_END_LABELS).flatMap(ProfilePageParser::firstDate)
+                .or(() -> term.flatMap(ProfilePageParser::lastDate))
+                .orElse(null);
+
+        return new MemberProfile(
+                profileUrl,
+                labelledValue(doc, DISTRICT_LABELS).orElse(null),
+                labelledValue(doc, GENDER_LABELS).orElse(null),
+                labelledValue(doc, STATUS_LABELS).map(s -> s.toLowerCase(Locale.ROOT)).orElse(null),
+                termStart,
+                termEnd);
+    }
+
+    /**
+     * Value following the first element whose own text is one of the labels:
+     * either the rest of that text after the colon, or the next sibling's text
+     */
+    private Optional<String> labelledValue(Document doc, List<String> labels) {
+        for (Element element : doc.getAllElements()) {
+            String own = element.ownText().trim();
+            int colon = own.indexOf(':');
+            String label = fold(colon >= 0 ? own.substring(0, colon) : own);
+            if (label.isEmpty() || !labels.contains(label)) {
+                continue;
+            }
+
+            String inline = colon >= 0 ? own.substring(colon + 1).trim() : "";
+            if (!inline.isEmpty()) {
+                return Optional.of(inline);
+            }
+            Element next = element.nextElementSibling();
+            if (next != null && !next.text().isBlank()) {
+                return Optional.of(next.text().trim());
+            }
+            // <p><strong>Label:</strong> value</p>
+            Element parent = element.parent();
+            if (parent != null) {
+                String rest = parent.ownText().trim();
+                if (!rest.isEmpty()) {
+                    return Optional.of(rest);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<LocalDate> firstDate(String text) {
+        Matcher matcher = DATE_PATTERN.matcher(text);
+        return matcher.find() ? parseDate(matcher.group(1)) : Optional.empty();
+    }
+
+    private static Optional<LocalDate> lastDate(String text) {
+        Matcher matcher = DATE_PATTERN.matcher(text);
+        String last = null;
+        while (matcher.find()) {
+            last = matcher.group(1);
+        }
+        return last == null ? Optional.empty() : parseDate(last);
+    }
+
+    private static Optional<LocalDate> parseDate(String text) {
+        try {
+            return Optional.of(LocalDate.parse(text, DATE_FORMAT));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    static String fold(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT)
+                .trim();
+    }
+}
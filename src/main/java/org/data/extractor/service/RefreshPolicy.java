@@ -0,0 +1,131 @@
+package org.data.extractor.service;
+
+
+import org.data.extractor.entity.PeriodRefresh;
+import org.data.extractor.pojo.ParliamentaryPeriod;
+import org.data.extractor.repository.PeriodRefreshRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+
+/**
+ * Per-period refresh intervals. The active period (and the base page listing the periods)
+ * is checked on a short fixed interval. Closed periods start at the minimum interval, which
+ * halves when a check finds changes and doubles when it does not, within configured bounds.
+ * Every scheduled check is jittered so periods do not fall due together.
+ */
+@Service
+@Profile("!offline")
+public class RefreshPolicy {
+
+    private final PeriodRefreshRepository repository;
+    private final Duration activeInterval;
+    private final Duration closedMinInterval;
+    private final Duration closedMaxInterval;
+    private final double jitter;
+
+    public RefreshPolicy(PeriodRefreshRepository repository,
+                         @Value("${refresh.active-interval:PT1H}") Duration activeInterval,
+                         @Value("${refresh.closed-min-interval:P1D}") Duration closedMinInterval,
+                         @Value("${refresh.closed-max-interval:P30D}") Duration closedMaxInterval,
+                         @Value("${refresh.jitter:0.2}") double jitter) {
+        this.repository = repository;
+        this.activeInterval = activeInterval;
+        this.closedMinInterval = closedMinInterval;
+        this.closedMaxInterval = closedMaxInterval;
+        this.jitter = Math.clamp(jitter, 0.0, 0.9);
+    }
+
+    /**
+     * How old a stored snapshot of the period may be and still be used instead of fetching.
+     * Below the earliest jittered due time, so a check the scheduler considers due always fetches.
+     */
+    @Transactional(readOnly = true)
+    public Duration maxAge(String periodName) {
+        Duration interval = isActive(periodName)
+                ? activeInterval
+                : repository.findById(periodName)
+                        .map(refresh -> Duration.ofSeconds(refresh.getIntervalSeconds()))
+                        .orElse(closedMinInterval);
+        return scale(interval, 1.0 - jitter);
+    }
+
+    /**
+     * Periods due for a check, active ones first, then the most overdue; never-checked periods are always due
+     */
+    @Transactional(readOnly = true)
+    public List<String> duePeriods(List<String> periods, int limit) {
+        Instant now = Instant.now();
+        Map<String, PeriodRefresh> schedules = repository.findAllById(periods).stream()
+                .collect(Collectors.toMap(PeriodRefresh::getPeriodName, Function.identity()));
+
+        return periods.stream()
+                .distinct()
+                .filter(period -> !schedules.containsKey(period) || !schedules.get(period).getNextCheckTime().isAfter(now))
+                .sorted(Comparator.comparing((String period) -> !isActive(period))
+                        .thenComparing(period -> Optional.ofNullable(schedules.get(period))
+                                .map(PeriodRefresh::getNextCheckTime)
+                                .orElse(Instant.EPOCH)))
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Adapt the interval to the outcome of a check and schedule the next one
+     */
+    @Transactional
+    public PeriodRefresh recordCheck(String periodName, boolean changed) {
+        Instant now = Instant.now();
+        PeriodRefresh refresh = repository.findById(periodName)
+                .orElseGet(() -> PeriodRefresh.builder()
+                        .periodName(periodName)
+                        .intervalSeconds(closedMinInterval.toSeconds())
+                        .build());
+
+        Duration interval;
+        if (isActive(periodName)) {
+            interval = activeInterval;
+        } else {
+            Duration previous = Duration.ofSeconds(refresh.getIntervalSeconds());
+            interval = changed ? previous.dividedBy(2) : previous.multipliedBy(2);
+            interval = interval.compareTo(closedMinInterval) < 0 ? closedMinInterval
+                    : interval.compareTo(closedMaxInterval) > 0 ? closedMaxInterval
+                    : interval;
+        }
+
+        refresh.setIntervalSeconds(interval.toSeconds());
+        refresh.setLastCheckedTime(now);
+        if (changed) {
+            refresh.setLastChangedTime(now);
+            refresh.setUnchangedChecks(0);
+        } else {
+            refresh.setUnchangedChecks(refresh.getUnchangedChecks() + 1);
+        }
+        double spread = jitter > 0 ? ThreadLocalRandom.current().nextDouble(-jitter, jitter) : 0.0;
+        refresh.setNextCheckTime(now.plus(scale(interval, 1.0 + spread)));
+        return repository.save(refresh);
+    }
+
+    /**
+     * The base page and the active period follow the short interval; anything that is not a period counts as active
+     */
+    private static boolean isActive(String periodName) {
+        return ParliamentaryPeriod.fromName(periodName).map(ParliamentaryPeriod::isActive).orElse(true);
+    }
+
+    private static Duration scale(Duration duration, double factor) {
+        return Duration.ofMillis((long) (duration.toMillis() * factor));
+    }
+}
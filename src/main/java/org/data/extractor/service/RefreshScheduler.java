@@ -0,0 +1,121 @@
+package org.data.extractor.service;
+
+
+import org.data.extractor.pojo.CongressMember;
+import org.data.extractor.pojo.ParliamentaryPeriod;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+
+/**
+ * Replaces the one-shot startup crawl: every tick crawls only the periods whose refresh
+ * policy says they are due, then feeds the outcome back so the intervals adapt.
+ * Concurrency stays bounded by the crawler ({@code crawler.max-concurrency}) and by
+ * {@code refresh.max-periods-per-tick}.
+ */
+@Component
+@Profile("!offline")
+public class RefreshScheduler {
+
+    private final ParseDocument parseDocument;
+    private final ParallelPeriodCrawler crawler;
+    private final RefreshPolicy refreshPolicy;
+    private final SnapshotStore snapshotStore;
+    private final ObjectProvider<EclipseSnapshotStore> embeddedStore;
+    private final MemberExporter exporter;
+    private final int maxPeriodsPerTick;
+    private final boolean exportAfterCrawl;
+    private final Path exportPath;
+    private final MemberExporter.Format exportFormat;
+
+    public RefreshScheduler(ParseDocument parseDocument,
+                            ParallelPeriodCrawler crawler,
+                            RefreshPolicy refreshPolicy,
+                            SnapshotStore snapshotStore,
+                            ObjectProvider<EclipseSnapshotStore> embeddedStore,
+                            MemberExporter exporter,
+                            @Value("${refresh.max-periods-per-tick:50}") int maxPeriodsPerTick,
+                            @Value("${export.after-crawl:false}") boolean exportAfterCrawl,
+                            @Value("${export.path:exports/congress-members.ndjson.gz}") String exportPath,
+                            @Value("${export.format:NDJSON}") MemberExporter.Format exportFormat) {
+        this.parseDocument = parseDocument;
+        this.crawler = crawler;
+        this.refreshPolicy = refreshPolicy;
+        this.snapshotStore = snapshotStore;
+        this.embeddedStore = embeddedStore;
+        this.exporter = exporter;
+        this.maxPeriodsPerTick = maxPeriodsPerTick;
+        this.exportAfterCrawl = exportAfterCrawl;
+        this.exportPath = Path.of(exportPath);
+        this.exportFormat = exportFormat;
+    }
+
+    @Scheduled(initialDelayString = "${refresh.initial-delay-ms:0}", fixedDelayString = "${refresh.tick-ms:60000}")
+    public void tick() {
+        List<String> periods = parseDocument.getAllParliamentaryPeriods();
+        List<String> due = refreshPolicy.duePeriods(periods, maxPeriodsPerTick);
+        if (due.isEmpty()) {
+            return;
+        }
+        System.out.println("Refreshing " + due.size() + " of " + periods.size() + " periods");
+
+        Map<String, Set<String>> before = new HashMap<>();
+        for (String period : due) {
+            before.put(period, fingerprints(snapshotStore.findMembers(period).orElse(List.of())));
+        }
+
+        Map<String, List<CongressMember>> results = crawler.crawl(due);
+
+        for (String period : due) {
+            List<CongressMember> members = results.getOrDefault(period, List.of());
+            // A failed period was not checked: its interval stays as it is and it is due again next tick
+            if (members.isEmpty()) {
+                continue;
+            }
+            refreshPolicy.recordCheck(period, !fingerprints(members).equals(before.get(period)));
+        }
+
+        mirrorToEmbeddedStore(periods, results);
+        if (exportAfterCrawl) {
+            try {
+                exporter.export(exportPath, exportFormat);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Keep the embedded store in step when enabled, so it can be shipped for offline use
+     */
+    private void mirrorToEmbeddedStore(List<String> periods, Map<String, List<CongressMember>> results) {
+        embeddedStore.ifAvailable(store -> {
+            store.savePeriods(periods.stream()
+                    .map(ParliamentaryPeriod::fromName)
+                    .flatMap(Optional::stream)
+                    .toList());
+            results.forEach((period, members) -> {
+                if (!members.isEmpty()) {
+                    store.saveMembers(period, members);
+                }
+            });
+        });
+    }
+
+    private static Set<String> fingerprints(List<CongressMember> members) {
+        return members.stream().map(CongressMember::fingerprint).collect(Collectors.toSet());
+    }
+}
@@ -1,105 +1,93 @@
 package org.data.extractor.service;
 
-import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import org.data.extractor.configuration.BrowserAssetBlocker;
+import org.data.extractor.configuration.PooledDriver;
 import org.data.extractor.configuration.SeleniumDriverManager;
-import org.data.extractor.entity.Webpage;
-import org.data.extractor.pojo.CongressMember;
-import org.data.extractor.repository.WebpageRepository;
+import org.data.extractor.metrics.ScraperMetrics;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
-import org.openqa.selenium.support.ui.WebDriverWait;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
-import java.time.Instant;
-import java.time.temporal.ChronoUnit;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
+/**
+ * Fetches period pages through a pooled WebDriver. Holds no per-call browser state,
+ * so several periods can be processed concurrently.
+ */
 @Service
+@Profile("!offline")
+@Lazy
 @RequiredArgsConstructor
-public class SeleniumCongressFetcher {
+public class SeleniumCongressFetcher implements CongressFetcher {
 
     @Value("${congreso.base-url}")
     private String BASE_URL;
 
     private final SeleniumDriverManager driverManager;
 
-    private final WebpageRepository webpageRepository;
+    private final WebpageRepositoryService webpageRepositoryService;
+    private final TableReadinessDetector readinessDetector;
+    private final ScraperMetrics metrics;
+    private final RefreshPolicy refreshPolicy;
 
-    private WebDriverWait wait;
-    private WebDriver driver;
+    @Value("${selenium.session-reuse:true}")
+    private boolean sessionReuse;
 
-    public void loadInitialPage() {
-        driver = driverManager.getDriver();
-        driver.get(BASE_URL);
-        wait = driverManager.getWait(driver);
-        wait.until(ExpectedConditions.presenceOfElementLocated(By.tagName("table")));
+    public void loadInitialPage(PooledDriver session) {
+        metrics.seleniumPageLoad(() -> {
+            session.driver().get(BASE_URL);
+            return session.waiter().until(ExpectedConditions.presenceOfElementLocated(By.tagName("table")));
+        });
     }
 
-    private List<CongressMember> reloadPageContent(Select option, String periodName) throws InterruptedException {
+    /**
+     * Switch the dropdown to the period and return the page source once the new table is in place
+     */
+    private String reloadPageContent(PooledDriver session, Select option, String periodName) {
+        TableReadinessDetector.TableSnapshot previous = readinessDetector.capture(session.driver());
+
         System.out.println("  → Selecting period: " + periodName);
         option.selectByVisibleText(periodName);
 
         System.out.println("  → Waiting for page to reload...");
 
-        Thread.sleep(3000);
-
-        // Wait for table to be present again (it should reload)
-        wait.until(ExpectedConditions.presenceOfElementLocated(By.tagName("table")));
-        Thread.sleep(1000); // Extra buffer
+        // Wait until the old table is gone or its rows changed, then for the page to settle
+        readinessDetector.awaitReplacement(session.driver(), previous, periodName);
 
         System.out.println("  ✓ Page reloaded");
 
-        // Parse the updated page
-        String pageSource = driver.getPageSource();
-
-        //check if already saved
-        if (!isPeriodAlreadyLoaded(periodName)) {
-            System.out.println("  → Saving: Webpage Repository period " + periodName + "...");
-            webpageRepository.save(Webpage.builder()
-                    .pageBlob(pageSource)
-                    .parliamentaryPeriod(periodName)
-                    .build());
-        }
-
-        return parseMembers(pageSource, periodName);
+        return session.driver().getPageSource();
     }
 
 
-    private Boolean isPeriodAlreadyLoaded(String periodName) {
-        return webpageRepository.findAllFormatted()
-                .stream()
-                .anyMatch(periodName::equalsIgnoreCase);
-    }
-
-
-    public List<CongressMember> saveWebpageForParliamentaryPeriod(String periodName) {
-
-
+    @Override
+    public Optional<FetchedPage> fetchPage(String periodName) {
         if (isPeriodAlreadyLoaded(periodName)) {
-            Optional<String> document = webpageRepository.findAll()
-                    .stream()
-                    .filter(webpage -> periodName.equalsIgnoreCase(webpage.getParliamentaryPeriod()))
-                    .map(Webpage::getPageBlob)
-                    .findFirst();
-
-            return document.map(s -> parseMembers(s, periodName)).orElse(Collections.emptyList());
-
+            return webpageRepositoryService.findLatest(periodName).map(FetchedPage::stored);
         }
 
         System.out.println("Processing parliamentary period: " + periodName);
 
-
-
-        loadInitialPage();
+        PooledDriver session;
+        try {
+            session = driverManager.checkout();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
 
         try {
+            ensureBasePage(session);
+            WebDriver driver = session.driver();
+
             WebElement element = driver.findElement(By.name("idRegistroPadre"));
 
             Select dropdown = new Select(element);
@@ -107,45 +95,43 @@ public class SeleniumCongressFetcher {
 
             for (WebElement option : options) {
                 if (Boolean.parseBoolean(option.getAttribute("selected")) && option.getText().trim().equals(periodName)) {
-                    String pageSource = driver.getPageSource();
-
-                    //check if already saved
-                    if (!isPeriodAlreadyLoaded(periodName)) {
-                        System.out.println("  → Saving: Webpage Repository period " + periodName + "...");
-                        webpageRepository.save(Webpage.builder()
-                                .pageBlob(pageSource)
-                                .parliamentaryPeriod(periodName)
-                                .build());
-                    }
-
-                    return parseMembers(pageSource, periodName);
+                    return Optional.of(FetchedPage.fetched(periodName, driver.getPageSource()));
                 }
                 if (option.getText().trim().equals(periodName)) {
-                    return reloadPageContent(dropdown, periodName);
+                    return Optional.of(FetchedPage.fetched(periodName, reloadPageContent(session, dropdown, periodName)));
                 }
             }
             // throw new Exception("Period not found in dropdown");
-            return Collections.emptyList();
+            return Optional.empty();
 
         } catch (Exception e) {
             System.out.println("  ✗ Error selecting period: " + e.getMessage());
-            return List.of();
+            session.markCold();
+            return Optional.empty();
+        } finally {
+            BrowserAssetBlocker.PageStats stats = session.drainPageStats();
+            metrics.seleniumAssets(stats.blockedByType(), stats.bytesTransferred());
+            driverManager.release(session);
         }
 
     }
 
-    private List<CongressMember> parseMembers(String html, String periodName) {
 
-        return Collections.emptyList();
+    /**
+     * Load the base page unless the session still shows the member page from its previous period,
+     * in which case switching the dropdown is all that is needed
+     */
+    private void ensureBasePage(PooledDriver session) {
+        if (sessionReuse && session.isWarm() && !session.driver().findElements(By.name("idRegistroPadre")).isEmpty()) {
+            return;
+        }
+        loadInitialPage(session);
+        session.markWarm();
     }
 
-    @PreDestroy
-    public void cleanup() {
-        if (driver != null) {
-            System.out.println("\nCleaning up WebDriver...");
-            driver.quit();
-            System.out.println("✓ WebDriver closed");
-        }
+
+    private Boolean isPeriodAlreadyLoaded(String periodName) {
+        return webpageRepositoryService.isFresh(periodName, refreshPolicy.maxAge(periodName));
     }
 
 
@@ -0,0 +1,42 @@
+package org.data.extractor.service;
+
+import org.data.extractor.pojo.CongressMember;
+import org.data.extractor.pojo.MemberDelta;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares a newly extracted member set with the fingerprints stored for the period.
+ * Members are matched by full name, the key of congress_members within a period.
+ */
+@Component
+public class SnapshotDiffer {
+
+    public MemberDelta diff(String periodName, Map<String, String> storedFingerprints, List<CongressMember> current) {
+        List<CongressMember> inserted = new ArrayList<>();
+        List<CongressMember> updated = new ArrayList<>();
+
+        // Last occurrence wins, as it would with the upsert
+        Map<String, CongressMember> byName = new LinkedHashMap<>();
+        for (CongressMember member : current) {
+            byName.put(member.name(), member);
+        }
+
+        Map<String, String> remaining = new HashMap<>(storedFingerprints);
+        for (CongressMember member : byName.values()) {
+            String stored = remaining.remove(member.name());
+            if (stored == null) {
+                inserted.add(member);
+            } else if (!stored.equals(member.fingerprint())) {
+                updated.add(member);
+            }
+        }
+
+        return new MemberDelta(periodName, inserted, updated, List.copyOf(remaining.keySet()));
+    }
+}
@@ -0,0 +1,26 @@
+package org.data.extractor.service;
+
+import org.data.extractor.pojo.CongressMember;
+import org.data.extractor.pojo.MemberDelta;
+import org.data.extractor.pojo.ParliamentaryPeriod;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Latest known periods and members per period. Backed by PostgreSQL by default,
+ * or by the embedded EclipseStore under the {@code offline} profile.
+ */
+public interface SnapshotStore {
+
+    List<ParliamentaryPeriod> findPeriods();
+
+    Optional<List<CongressMember>> findMembers(String periodName);
+
+    void savePeriods(List<ParliamentaryPeriod> periods);
+
+    /**
+     * Replace the stored members of the period, returning what changed
+     */
+    MemberDelta saveMembers(String periodName, List<CongressMember> members);
+}
@@ -0,0 +1,185 @@
+package org.data.extractor.service;
+
+import org.data.extractor.metrics.ScraperMetrics;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.FluentWait;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Detects that the member table was actually replaced after a period switch,
+ * instead of sleeping a fixed amount of time.
+ * <p>
+ * The table counts as replaced when the previous table element goes stale or the
+ * row signature changes; network idle is checked in the same poll, so an identical new
+ * table is accepted as soon as the page settles. Waiting for idle after a replacement as
+ * well is optional.
+ */
+@Component
+public class TableReadinessDetector {
+
+    // First row, last row and row count are enough to tell two member tables apart
+    private static final String ROW_SIGNATURE_SCRIPT = """
+            var table = document.querySelector('table');
+            if (!table) { return null; }
+            var rows = table.rows;
+            if (rows.length === 0) { return '0'; }
+            return rows.length + '|' + rows[Math.min(1, rows.length - 1)].textContent + '|' + rows[rows.length - 1].textContent;
+            """;
+
+    private static final String RESOURCE_COUNT_SCRIPT = """
+            return performance.getEntriesByType('resource').length;
+            """;
+
+    private final Duration timeout;
+    private final Duration pollInterval;
+    private final Duration networkIdle;
+    private final boolean idleAfterReplacement;
+
+    private final Map<String, WaitRecord> waitTimes = new ConcurrentHashMap<>();
+    private final ScraperMetrics metrics;
+
+    public TableReadinessDetector(ScraperMetrics metrics,
+                                  @Value("${selenium.readiness.timeout-ms:15000}") long timeoutMs,
+                                  @Value("${selenium.readiness.poll-interval-ms:100}") long pollIntervalMs,
+                                  @Value("${selenium.readiness.network-idle-ms:500}") long networkIdleMs,
+                                  @Value("${selenium.readiness.idle-after-replacement:false}") boolean idleAfterReplacement) {
+        this.metrics = metrics;
+        this.timeout = Duration.ofMillis(timeoutMs);
+        this.pollInterval = Duration.ofMillis(pollIntervalMs);
+        this.networkIdle = Duration.ofMillis(networkIdleMs);
+        this.idleAfterReplacement = idleAfterReplacement;
+    }
+
+    /**
+     * Which signal confirmed the new table
+     */
+    public enum Signal { STALE_ELEMENT, ROW_SIGNATURE, NETWORK_IDLE, TIMED_OUT }
+
+    /**
+     * Wait time spent on a period switch
+     */
+    public record WaitRecord(Duration tableReplaced, Duration networkIdle, Signal signal) {
+        public Duration total() {
+            return tableReplaced.plus(networkIdle);
+        }
+    }
+
+    /**
+     * State of the table before the period switch
+     */
+    public record TableSnapshot(WebElement table, String rowSignature) {}
+
+    /**
+     * Capture the current table so its replacement can be detected later
+     */
+    public TableSnapshot capture(WebDriver driver) {
+        WebElement table = driver.findElements(By.tagName("table")).stream().findFirst().orElse(null);
+        return new TableSnapshot(table, rowSignature(driver));
+    }
+
+    /**
+     * Block until the table captured in {@code previous} has been replaced or the network went idle,
+     * whichever comes first. Never throws on timeout: the outcome is recorded as {@link Signal#TIMED_OUT}
+     * and the parse stage decides whether the page is usable.
+     */
+    public WaitRecord awaitReplacement(WebDriver driver, TableSnapshot previous, String periodName) {
+        long start = System.nanoTime();
+
+        IdleTracker switchIdle = new IdleTracker();
+        Signal signal;
+        try {
+            signal = newWait(driver).until(d -> {
+                if (previous.table() != null && ExpectedConditions.stalenessOf(previous.table()).apply(d)) {
+                    return d.findElements(By.tagName("table")).isEmpty() ? null : Signal.STALE_ELEMENT;
+                }
+                String current = rowSignature(d);
+                if (current != null && !Objects.equals(current, previous.rowSignature())) {
+                    return Signal.ROW_SIGNATURE;
+                }
+                // An identical table never changes signature; a settled network is then the only signal
+                return switchIdle.isIdle(d) ? Signal.NETWORK_IDLE : null;
+            });
+        } catch (TimeoutException e) {
+            signal = Signal.TIMED_OUT;
+        }
+        long replaced = System.nanoTime();
+
+        if (idleAfterReplacement && (signal == Signal.STALE_ELEMENT || signal == Signal.ROW_SIGNATURE)) {
+            IdleTracker afterIdle = new IdleTracker();
+            try {
+                newWait(driver).until(afterIdle::isIdle);
+            } catch (TimeoutException e) {
+                signal = Signal.TIMED_OUT;
+            }
+        }
+        long idle = System.nanoTime();
+
+        WaitRecord record = new WaitRecord(Duration.ofNanos(replaced - start), Duration.ofNanos(idle - replaced), signal);
+        waitTimes.put(periodName, record);
+        metrics.seleniumWait(signal.name(), record.tableReplaced(), record.networkIdle());
+        if (signal == Signal.TIMED_OUT) {
+            System.out.println("  ✗ Page did not settle within " + timeout.toMillis() + " ms, using it as it is");
+        } else {
+            System.out.println("  ✓ Table ready after " + record.total().toMillis() + " ms (" + signal + ")");
+        }
+        return record;
+    }
+
+    /**
+     * Wait times recorded per period
+     */
+    public Map<String, WaitRecord> getWaitTimes() {
+        return Collections.unmodifiableMap(waitTimes);
+    }
+
+    /**
+     * Network idle: the page is complete and its resource count stayed the same for {@code networkIdle}
+     */
+    private final class IdleTracker {
+        private long lastCount = -1;
+        private long stableSince = System.nanoTime();
+
+        boolean isIdle(WebDriver driver) {
+            JavascriptExecutor js = (JavascriptExecutor) driver;
+            if (!"complete".equals(js.executeScript("return document.readyState;"))) {
+                lastCount = -1;
+                return false;
+            }
+            long count = ((Number) js.executeScript(RESOURCE_COUNT_SCRIPT)).longValue();
+            long now = System.nanoTime();
+            if (count != lastCount) {
+                lastCount = count;
+                stableSince = now;
+                return false;
+            }
+            return now - stableSince >= networkIdle.toNanos();
+        }
+    }
+
+    private String rowSignature(WebDriver driver) {
+        Object signature = ((JavascriptExecutor) driver).executeScript(ROW_SIGNATURE_SCRIPT);
+        return signature == null ? null : signature.toString();
+    }
+
+    private FluentWait<WebDriver> newWait(WebDriver driver) {
+        return new FluentWait<>(driver)
+                .withTimeout(timeout)
+                .pollingEvery(pollInterval)
+                .ignoring(StaleElementReferenceException.class)
+                .ignoring(NoSuchElementException.class);
+    }
+}
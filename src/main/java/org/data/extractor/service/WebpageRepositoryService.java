@@ -3,29 +3,128 @@ package org.data.extractor.service;
 
 import lombok.RequiredArgsConstructor;
 import org.data.extractor.entity.Webpage;
+import org.data.extractor.metrics.ScraperMetrics;
+import org.data.extractor.pojo.CongressMember;
 import org.data.extractor.repository.WebpageRepository;
+import org.data.extractor.repository.WebpageSummary;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
 
 
 @Service
+@Profile("!offline")
 @RequiredArgsConstructor
 public class WebpageRepositoryService {
 
     private final WebpageRepository repository;
+    private final PageContentStore pageContentStore;
+    private final PageFragmentStore pageFragmentStore;
+    private final MemberTableExtractor memberTableExtractor;
+    private final ScraperMetrics metrics;
 
-    public Boolean checkIfPageExists(String content) {
+    /**
+     * Check if the period was stored within the last {@code maxAge}; a rolling window, so a run crossing midnight keeps its snapshots
+     */
+    public boolean isFresh(String period, Duration maxAge) {
+        return repository.existsByParliamentaryPeriodAndInsertedTimeGreaterThanEqual(period, Instant.now().minus(maxAge));
+    }
+
+    /**
+     * Latest snapshot of the period, without loading its blob
+     */
+    public Optional<WebpageSummary> findLatest(String period) {
+        return repository.findFirstByParliamentaryPeriodOrderByInsertedTimeDesc(period);
+    }
+
+    /**
+     * Every period with at least one stored snapshot, the base page included
+     */
+    public List<String> storedPeriods() {
+        return repository.findDistinctParliamentaryPeriods();
+    }
+
+    /**
+     * Latest snapshot of the period newer than {@code maxAge}, without loading its blob
+     */
+    public Optional<WebpageSummary> findLatestSince(String period, Duration maxAge) {
+        Instant since = Instant.now().minus(maxAge);
+        return findLatest(period).filter(summary -> !summary.getInsertedTime().isBefore(since));
+    }
+
+    /**
+     * Store a new snapshot of the period; the HTML itself goes to the content-addressed store
+     */
+    @Transactional
+    public Webpage saveSnapshot(String period, String html) {
+        return saveSnapshot(period, html, null, null);
+    }
+
+    /**
+     * Store a new snapshot together with the HTTP validators it was served with
+     */
+    @Transactional
+    public Webpage saveSnapshot(String period, String html, String etag, String lastModified) {
+        String hash = pageContentStore.store(html);
+        pageFragmentStore.store(hash, html);
+        return metrics.dbSave("webpage", () -> repository.save(Webpage.builder()
+                .parliamentaryPeriod(period)
+                .contentHash(hash)
+                .etag(etag)
+                .lastModified(lastModified)
+                .build()));
+    }
+
+    /**
+     * Record that a snapshot is still current (e.g. after a 304) without storing its content again
+     */
+    @Transactional
+    public void refreshSnapshot(WebpageSummary current) {
+        repository.touchInsertedTime(current.getId(), Instant.now());
+    }
+
+    /**
+     * Load the stored page content of a snapshot
+     */
+    public Optional<String> loadPage(WebpageSummary summary) {
+        if (summary.getContentHash() != null) {
+            return pageContentStore.load(summary.getContentHash());
+        }
+        return repository.findPageBlobById(summary.getId());
+    }
+
+    /**
+     * Members of a snapshot's table, read from its compact fragment; the raw page is only loaded to reprocess
+     * snapshots stored before fragments existed
+     */
+    public Optional<List<CongressMember>> loadMembers(WebpageSummary summary) {
+        if (summary.getContentHash() != null) {
+            return pageFragmentStore.members(summary.getContentHash(), () -> loadPage(summary));
+        }
+        return loadPage(summary).flatMap(memberTableExtractor::extractMembers);
+    }
+
+    /**
+     * Period dropdown options of a snapshot, read from its compact fragment
+     */
+    public Optional<List<String>> loadPeriodOptions(WebpageSummary summary) {
+        if (summary.getContentHash() != null) {
+            return pageFragmentStore.periodOptions(summary.getContentHash(), () -> loadPage(summary));
+        }
+        return loadPage(summary).map(memberTableExtractor::extractPeriodOptions);
+    }
 
-        return repository.findAll()
-                .stream()
-                .filter(webpage -> webpage.getInsertedTime().isAfter(Instant.now().minus(1, ChronoUnit.DAYS)))
-                .filter(webpage -> content.equalsIgnoreCase(webpage.getParliamentaryPeriod()))
-                .map(Webpage::getPageBlob)
-                .findFirst()
-                .isPresent();
+    /**
+     * Page content of the latest snapshot of the period newer than {@code maxAge}
+     */
+    public Optional<String> findFreshPage(String period, Duration maxAge) {
+        return findLatestSince(period, maxAge).flatMap(this::loadPage);
     }
 
 
-}
\ No newline at end of file
+}
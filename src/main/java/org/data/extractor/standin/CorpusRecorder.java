@@ -0,0 +1,74 @@
+package org.data.extractor.standin;
+
+import org.data.extractor.service.CrawlCompletedEvent;
+import org.data.extractor.service.PageScraper;
+import org.data.extractor.service.WebpageRepositoryService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Record mode: dumps the latest stored snapshot of every period into a {@link StandInCorpus}.
+ * The stored snapshots are the real responses of earlier crawls; the base page is revalidated
+ * against the live site first, and the corpus is rewritten after every crawl.
+ */
+@Component
+@Profile("!offline")
+@ConditionalOnProperty(name = "standin.record", havingValue = "true")
+public class CorpusRecorder {
+
+    private final PageScraper pageScraper;
+    private final WebpageRepositoryService webpageRepositoryService;
+    private final Path corpusDirectory;
+    private final String baseUrl;
+
+    public CorpusRecorder(PageScraper pageScraper,
+                          WebpageRepositoryService webpageRepositoryService,
+                          @Value("${standin.corpus-dir:data/standin-corpus}") String corpusDirectory,
+                          @Value("${congreso.base-url}") String baseUrl) {
+        this.pageScraper = pageScraper;
+        this.webpageRepositoryService = webpageRepositoryService;
+        this.corpusDirectory = Path.of(corpusDirectory);
+        this.baseUrl = baseUrl;
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void onStartup() {
+        record();
+    }
+
+    @EventListener
+    public void onCrawlCompleted(CrawlCompletedEvent event) {
+        record();
+    }
+
+    public synchronized void record() {
+        try {
+            pageScraper.loadPage();
+
+            Map<String, String> pages = new LinkedHashMap<>();
+            for (String period : webpageRepositoryService.storedPeriods()) {
+                webpageRepositoryService.findLatest(period)
+                        .flatMap(webpageRepositoryService::loadPage)
+                        .ifPresent(html -> pages.put(period, html));
+            }
+            if (!pages.containsKey(PageScraper.PERIODS_PAGE)) {
+                System.out.println("  ✗ No base page stored yet, stand-in corpus not recorded");
+                return;
+            }
+
+            StandInCorpus.write(corpusDirectory, baseUrl, PageScraper.PERIODS_PAGE, pages);
+            System.out.println("  ✓ Recorded " + pages.size() + " pages to the stand-in corpus in " + corpusDirectory);
+        } catch (IOException | RuntimeException e) {
+            System.out.println("  ✗ Could not record the stand-in corpus: " + e.getMessage());
+        }
+    }
+}
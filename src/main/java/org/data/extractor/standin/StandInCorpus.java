@@ -0,0 +1,118 @@
+package org.data.extractor.standin;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Element;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Recorded congreso pages on disk: {@code index.json} plus one HTML file per period.
+ * The base page is the one served without a period selection; the others answer the
+ * {@code idRegistroPadre} switch, matched through the option values of the base page dropdown.
+ */
+public final class StandInCorpus {
+
+    static final String INDEX_FILE = "index.json";
+    static final String PERIOD_FIELD = "idRegistroPadre";
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    /**
+     * {@code origin} is the scheme and host the pages were recorded from; {@code pages} maps period name to file
+     */
+    record Index(String origin, String basePeriod, Map<String, String> pages) {}
+
+    private final String basePage;
+    private final Map<String, String> pagesByPeriod;
+    private final Map<String, String> periodsByOptionValue;
+
+    private StandInCorpus(String basePage, Map<String, String> pagesByPeriod) {
+        this.basePage = basePage;
+        this.pagesByPeriod = Map.copyOf(pagesByPeriod);
+        this.periodsByOptionValue = optionValues(basePage);
+    }
+
+    /**
+     * Load a recorded corpus, pointing every absolute link at {@code servedOrigin} instead of the recorded site
+     */
+    public static StandInCorpus load(Path directory, String servedOrigin) throws IOException {
+        Index index = GSON.fromJson(Files.readString(directory.resolve(INDEX_FILE)), Index.class);
+        Map<String, String> pages = new HashMap<>();
+        for (Map.Entry<String, String> entry : index.pages().entrySet()) {
+            String html = Files.readString(directory.resolve(entry.getValue()), StandardCharsets.UTF_8);
+            pages.put(entry.getKey(), index.origin() == null ? html : html.replace(index.origin(), servedOrigin));
+        }
+        String base = pages.get(index.basePeriod());
+        if (base == null) {
+            throw new IOException("Corpus in " + directory + " has no base page '" + index.basePeriod() + "'");
+        }
+        return new StandInCorpus(base, pages);
+    }
+
+    /**
+     * Write a corpus, replacing any previous one in the same directory
+     */
+    public static void write(Path directory, String recordedUrl, String basePeriod, Map<String, String> pagesByPeriod) throws IOException {
+        Files.createDirectories(directory);
+        try (DirectoryStream<Path> previous = Files.newDirectoryStream(directory, "*.html")) {
+            for (Path file : previous) {
+                Files.delete(file);
+            }
+        }
+        Map<String, String> files = new LinkedHashMap<>();
+        int n = 0;
+        for (Map.Entry<String, String> entry : pagesByPeriod.entrySet()) {
+            String file = String.format("%03d.html", n++);
+            Files.writeString(directory.resolve(file), entry.getValue(), StandardCharsets.UTF_8);
+            files.put(entry.getKey(), file);
+        }
+        Path tmp = directory.resolve(INDEX_FILE + ".tmp");
+        Files.writeString(tmp, GSON.toJson(new Index(origin(recordedUrl), basePeriod, files)));
+        Files.move(tmp, directory.resolve(INDEX_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public String basePage() {
+        return basePage;
+    }
+
+    /**
+     * Page answering a period switch; the value may be the option value or the visible period name
+     */
+    public Optional<String> pageForSelection(String value) {
+        String period = periodsByOptionValue.getOrDefault(value, value);
+        return Optional.ofNullable(pagesByPeriod.get(period));
+    }
+
+    public int size() {
+        return pagesByPeriod.size();
+    }
+
+    static String origin(String url) {
+        URI uri = URI.create(url);
+        return uri.getScheme() + "://" + uri.getRawAuthority();
+    }
+
+    private static Map<String, String> optionValues(String basePage) {
+        Map<String, String> values = new HashMap<>();
+        Element select = Jsoup.parse(basePage).selectFirst("select[name=" + PERIOD_FIELD + "]");
+        if (select != null) {
+            for (Element option : select.select("option")) {
+                String name = option.text().trim();
+                values.put(option.hasAttr("value") ? option.attr("value") : name, name);
+            }
+        }
+        return Map.copyOf(values);
+    }
+}
@@ -0,0 +1,183 @@
+package org.data.extractor.standin;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import jakarta.annotation.PreDestroy;
+import org.data.extractor.metrics.ScraperMetrics;
+import org.data.extractor.service.PageContentStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Replay mode: a local stand-in for the congreso site serving a recorded {@link StandInCorpus}.
+ * Any path answers with the base page, or with the period page when {@code idRegistroPadre}
+ * comes in the query string or a form body. Latency, error rate and concurrency are configurable,
+ * so crawls against it give repeatable throughput and latency figures.
+ * <p>
+ * Point {@code congreso.base-url} at it, as the {@code standin} profile does.
+ */
+@Component
+@ConditionalOnProperty(name = "standin.enabled", havingValue = "true")
+public class StandInServer {
+
+    private final StandInCorpus corpus;
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final long latencyMs;
+    private final long latencyJitterMs;
+    private final double errorRate;
+    private final long queueTimeoutMs;
+    private final Semaphore permits;
+
+    private final AtomicLong served = new AtomicLong();
+    private final AtomicLong notModified = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    public StandInServer(ScraperMetrics metrics,
+                         @Value("${standin.port:8089}") int port,
+                         @Value("${standin.corpus-dir:data/standin-corpus}") String corpusDirectory,
+                         @Value("${standin.latency-ms:150}") long latencyMs,
+                         @Value("${standin.latency-jitter-ms:50}") long latencyJitterMs,
+                         @Value("${standin.error-rate:0.0}") double errorRate,
+                         @Value("${standin.max-concurrency:8}") int maxConcurrency,
+                         @Value("${standin.queue-timeout-ms:2000}") long queueTimeoutMs) throws IOException {
+        this.latencyMs = latencyMs;
+        this.latencyJitterMs = latencyJitterMs;
+        this.errorRate = Math.clamp(errorRate, 0.0, 1.0);
+        this.queueTimeoutMs = queueTimeoutMs;
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.corpus = StandInCorpus.load(Path.of(corpusDirectory), "http://localhost:" + port);
+
+        server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+        System.out.println("Stand-in server on http://localhost:" + port + "/ replaying " + corpus.size() + " pages");
+
+        metrics.counter("congreso.standin.requests", "Requests answered by the stand-in server", this, s -> s.served.get(), "outcome", "served");
+        metrics.counter("congreso.standin.requests", "Requests answered by the stand-in server", this, s -> s.notModified.get(), "outcome", "not-modified");
+        metrics.counter("congreso.standin.requests", "Requests answered by the stand-in server", this, s -> s.failed.get(), "outcome", "injected-error");
+        metrics.counter("congreso.standin.requests", "Requests answered by the stand-in server", this, s -> s.rejected.get(), "outcome", "rejected");
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!permits.tryAcquire(queueTimeoutMs, TimeUnit.MILLISECONDS)) {
+                rejected.incrementAndGet();
+                respond(exchange, 503, "Too many concurrent requests");
+                return;
+            }
+            try {
+                serve(exchange);
+            } finally {
+                permits.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            respond(exchange, 503, "Shutting down");
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void serve(HttpExchange exchange) throws IOException, InterruptedException {
+        long jitter = latencyJitterMs > 0 ? ThreadLocalRandom.current().nextLong(-latencyJitterMs, latencyJitterMs + 1) : 0;
+        Thread.sleep(Math.max(0, latencyMs + jitter));
+
+        if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+            failed.incrementAndGet();
+            respond(exchange, 500, "Injected error");
+            return;
+        }
+
+        String selection = selection(exchange);
+        String html = selection == null ? corpus.basePage() : corpus.pageForSelection(selection).orElse(null);
+        if (html == null) {
+            respond(exchange, 404, "No recorded page for " + selection);
+            return;
+        }
+
+        String etag = "\"" + PageContentStore.hash(html) + "\"";
+        exchange.getResponseHeaders().set("ETag", etag);
+        if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            notModified.incrementAndGet();
+            exchange.sendResponseHeaders(304, -1);
+            return;
+        }
+
+        served.incrementAndGet();
+        exchange.getResponseHeaders().set("Content-Type", "text/html; charset=UTF-8");
+        byte[] body = html.getBytes(StandardCharsets.UTF_8);
+        String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        if (acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip")) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(body);
+            }
+            body = compressed.toByteArray();
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+        }
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * Selected period from the query string or a url-encoded form body, or null for the base page
+     */
+    private static String selection(HttpExchange exchange) throws IOException {
+        String value = field(exchange.getRequestURI().getRawQuery());
+        if (value == null && "POST".equalsIgnoreCase(exchange.getRequestMethod())) {
+            value = field(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+        }
+        return value;
+    }
+
+    private static String field(String encoded) {
+        if (encoded == null || encoded.isEmpty()) {
+            return null;
+        }
+        for (String pair : encoded.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0 && URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8).equals(StandInCorpus.PERIOD_FIELD)) {
+                return URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String message) throws IOException {
+        byte[] body = message.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=UTF-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+}
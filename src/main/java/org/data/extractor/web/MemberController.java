@@ -0,0 +1,50 @@
+package org.data.extractor.web;
+
+
+import lombok.RequiredArgsConstructor;
+import org.data.extractor.pojo.IndexedMember;
+import org.data.extractor.pojo.SearchHit;
+import org.data.extractor.service.MemberSearchIndex;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+
+/**
+ * Read API over the in-memory member index; no request reaches the database
+ */
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class MemberController {
+
+    private static final int MAX_SEARCH_RESULTS = 100;
+
+    private final MemberSearchIndex index;
+
+    @GetMapping("/periods")
+    public List<String> periods() {
+        return index.periods();
+    }
+
+    /**
+     * Members filtered by period and/or parliamentary group, e.g. {@code /api/members?period=Parlamentario 2021 - 2026}
+     */
+    @GetMapping("/members")
+    public List<IndexedMember> members(@RequestParam(required = false) String period,
+                                       @RequestParam(required = false) String group) {
+        return index.members(period, group);
+    }
+
+    /**
+     * Name search, prefix matches first, then fuzzy ones: {@code /api/members/search?q=garcia}
+     */
+    @GetMapping("/members/search")
+    public List<SearchHit> search(@RequestParam("q") String query,
+                                  @RequestParam(defaultValue = "20") int limit) {
+        return index.search(query, Math.min(limit, MAX_SEARCH_RESULTS));
+    }
+}
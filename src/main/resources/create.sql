@@ -71,6 +71,12 @@ CREATE TABLE congress_members (
                                   term_end_date DATE,
                                   last_active_date DATE,
 
+    -- Change detection: SHA-256 over the scraped list fields (CongressMember.fingerprint)
+                                  row_fingerprint VARCHAR(64),
+
+    -- Last time the profile page was stored; NULL means never, so the profile crawl picks it up
+                                  profile_fetched_time TIMESTAMP,
+
     -- Metadata
                                   scraped_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
                                   created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
@@ -127,6 +133,95 @@ CREATE INDEX idx_documents_url ON html_documents(url);
 CREATE INDEX idx_documents_hash ON html_documents(content_hash);
 CREATE INDEX idx_documents_fetched ON html_documents(fetched_at DESC);
 
+-- ============================================================
+-- Table: congreso.webpage
+-- Raw page snapshots stored by the scraper (mapped by the Webpage entity)
+-- ============================================================
+CREATE SCHEMA IF NOT EXISTS congreso;
+
+-- Compressed page content, one row per distinct SHA-256 hash (content-addressed)
+CREATE TABLE IF NOT EXISTS congreso.page_content (
+                                content_hash VARCHAR(64) PRIMARY KEY,
+                                codec VARCHAR(16) NOT NULL, -- 'deflate'
+                                raw_length INTEGER NOT NULL,
+                                compressed BYTEA NOT NULL,
+                                inserted_time TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS congreso.webpage (
+                                id BIGSERIAL PRIMARY KEY,
+                                parliamentary_period VARCHAR(255) NOT NULL,
+                                inserted_time TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                                content_hash VARCHAR(64) REFERENCES congreso.page_content(content_hash),
+                                etag VARCHAR(255), -- HTTP validators for conditional GETs
+                                last_modified VARCHAR(255),
+                                page_blob OID -- legacy inline HTML (@Lob String), NULL for content-addressed rows
+);
+
+-- Migration for databases created before content-addressed storage
+ALTER TABLE congreso.webpage ADD COLUMN IF NOT EXISTS content_hash VARCHAR(64) REFERENCES congreso.page_content(content_hash);
+ALTER TABLE congreso.webpage ALTER COLUMN page_blob DROP NOT NULL;
+ALTER TABLE congreso.webpage ADD COLUMN IF NOT EXISTS etag VARCHAR(255);
+ALTER TABLE congreso.webpage ADD COLUMN IF NOT EXISTS last_modified VARCHAR(255);
+
+-- Compact extract of each stored page: member rows and period options as JSON (see PageFragmentStore)
+CREATE TABLE IF NOT EXISTS congreso.page_fragment (
+                                content_hash VARCHAR(64) PRIMARY KEY REFERENCES congreso.page_content(content_hash),
+                                format_version INTEGER NOT NULL,
+                                member_count INTEGER, -- NULL when the page had no member table
+                                members TEXT,
+                                period_options TEXT,
+                                inserted_time TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Freshness lookups: latest snapshot per period / exists since
+CREATE INDEX IF NOT EXISTS idx_webpage_period_inserted
+    ON congreso.webpage(parliamentary_period, inserted_time DESC);
+
+-- ============================================================
+-- Table: congreso.crawl_run / congreso.crawl_period_state
+-- Description: Checkpoints of crawl runs; an unfinished run is resumed on restart
+-- ============================================================
+CREATE TABLE IF NOT EXISTS congreso.crawl_run (
+                                id BIGSERIAL PRIMARY KEY,
+                                status VARCHAR(16) NOT NULL, -- RUNNING, COMPLETED, FAILED
+                                started_time TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                                finished_time TIMESTAMP WITH TIME ZONE
+);
+
+CREATE TABLE IF NOT EXISTS congreso.crawl_period_state (
+                                id BIGSERIAL PRIMARY KEY,
+                                run_id BIGINT NOT NULL REFERENCES congreso.crawl_run(id) ON DELETE CASCADE,
+                                period_name VARCHAR(255) NOT NULL,
+                                state VARCHAR(16) NOT NULL, -- PENDING, FETCHING, PARSED, PERSISTED, FAILED
+                                attempts INTEGER NOT NULL DEFAULT 0,
+                                next_attempt_time TIMESTAMP WITH TIME ZONE,
+                                last_error VARCHAR(1000),
+                                updated_time TIMESTAMP WITH TIME ZONE,
+                                lease_owner VARCHAR(255), -- worker holding the period, NULL when free
+                                lease_expires_at TIMESTAMP WITH TIME ZONE, -- renewed by the holder's heartbeat
+                                CONSTRAINT uq_crawl_period_state UNIQUE (run_id, period_name)
+);
+
+-- Migration for databases created before multi-worker leasing
+ALTER TABLE congreso.crawl_period_state ADD COLUMN IF NOT EXISTS lease_owner VARCHAR(255);
+ALTER TABLE congreso.crawl_period_state ADD COLUMN IF NOT EXISTS lease_expires_at TIMESTAMP WITH TIME ZONE;
+
+CREATE INDEX IF NOT EXISTS idx_crawl_period_state_run ON congreso.crawl_period_state(run_id, state);
+
+-- ============================================================
+-- Table: congreso.period_refresh
+-- Description: Adaptive refresh schedule per period (see RefreshPolicy)
+-- ============================================================
+CREATE TABLE IF NOT EXISTS congreso.period_refresh (
+                                period_name VARCHAR(255) PRIMARY KEY,
+                                interval_seconds BIGINT NOT NULL,
+                                next_check_time TIMESTAMP WITH TIME ZONE NOT NULL,
+                                last_checked_time TIMESTAMP WITH TIME ZONE,
+                                last_changed_time TIMESTAMP WITH TIME ZONE,
+                                unchanged_checks INTEGER NOT NULL DEFAULT 0
+);
+
 -- ============================================================
 -- Trigger: Update updated_at timestamp automatically
 -- ============================================================
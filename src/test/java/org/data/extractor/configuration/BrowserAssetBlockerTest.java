@@ -0,0 +1,50 @@
+package org.data.extractor.configuration;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class BrowserAssetBlockerTest {
+
+    private static final String SITE = "https://www.congreso.gob.pe/";
+
+    private final BrowserAssetBlocker blocker = new BrowserAssetBlocker(true,
+            "image, stylesheet,font,media", "ads.example.com", true, SITE);
+
+    @Test
+    void blocksConfiguredResourceTypesByExtension() {
+        assertEquals("image", blocker.blockedType(SITE + "img/logo.PNG"));
+        assertEquals("stylesheet", blocker.blockedType(SITE + "css/site.css?v=3"));
+        assertEquals("font", blocker.blockedType(SITE + "fonts/roboto.woff2"));
+        assertEquals("media", blocker.blockedType(SITE + "video/intro.mp4"));
+    }
+
+    @Test
+    void letsDocumentsAndOwnScriptsThrough() {
+        assertNull(blocker.blockedType(SITE + "pleno/congresistas/"));
+        assertNull(blocker.blockedType(SITE + "js/app.js"));
+        assertNull(blocker.blockedType(SITE + "v1.2/congresistas"));
+    }
+
+    @Test
+    void blocksThirdPartyScriptsAndBlockedHosts() {
+        assertEquals("third-party-script", blocker.blockedType("https://cdn.example.net/lib.min.js"));
+        assertEquals("host", blocker.blockedType("https://ads.example.com/pixel"));
+        assertEquals("host", blocker.blockedType("https://static.ads.example.com/banner.html"));
+        assertNull(blocker.blockedType("https://notads.example.com/page"));
+    }
+
+    @Test
+    void thirdPartyScriptsPassWhenAllowed() {
+        BrowserAssetBlocker lenient = new BrowserAssetBlocker(true, "image", "", false, SITE);
+
+        assertNull(lenient.blockedType("https://cdn.example.net/lib.min.js"));
+        assertNull(lenient.blockedType(SITE + "css/site.css"));
+    }
+
+    @Test
+    void malformedUrlsAreNotBlocked() {
+        assertNull(blocker.blockedType("not a url"));
+    }
+}
@@ -0,0 +1,62 @@
+package org.data.extractor.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class BoundedCacheTest {
+
+    @Test
+    void loadsOnceAndCountsHitsAndMisses() {
+        BoundedCache<String, String> cache = new BoundedCache<>("test", 4, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals("v", cache.get("k", () -> {
+            loads.incrementAndGet();
+            return "v";
+        }));
+        assertEquals("v", cache.get("k", () -> "other"));
+
+        BoundedCache.Stats stats = cache.stats();
+        assertEquals(1, loads.get());
+        assertEquals(1, stats.hits());
+        assertEquals(1, stats.misses());
+        assertEquals(0.5, stats.hitRate());
+    }
+
+    @Test
+    void evictsTheLeastRecentlyUsedEntry() {
+        BoundedCache<String, String> cache = new BoundedCache<>("test", 2, Duration.ofMinutes(1));
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.get("a", () -> "reloaded");
+        cache.put("c", "3");
+
+        assertEquals("1", cache.get("a", () -> "reloaded"));
+        assertEquals("reloaded", cache.get("b", () -> "reloaded"));
+        assertEquals(2, cache.stats().size());
+    }
+
+    @Test
+    void expiredEntriesAreReloaded() throws InterruptedException {
+        BoundedCache<String, String> cache = new BoundedCache<>("test", 4, Duration.ofMillis(20));
+        cache.put("k", "old");
+        Thread.sleep(40);
+
+        assertEquals("new", cache.get("k", () -> "new"));
+        assertEquals(1, cache.stats().evictions());
+    }
+
+    @Test
+    void nullResultsAreNotCached() {
+        BoundedCache<String, String> cache = new BoundedCache<>("test", 4, Duration.ofMinutes(1));
+
+        assertNull(cache.get("k", () -> null));
+        assertEquals("v", cache.get("k", () -> "v"));
+        assertEquals(2, cache.stats().misses());
+    }
+}
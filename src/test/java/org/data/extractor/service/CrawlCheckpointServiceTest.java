@@ -0,0 +1,119 @@
+package org.data.extractor.service;
+
+import org.data.extractor.entity.CrawlPeriodState;
+import org.data.extractor.entity.CrawlPeriodState.State;
+import org.data.extractor.repository.CrawlPeriodStateRepository;
+import org.data.extractor.repository.CrawlRunRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CrawlCheckpointServiceTest {
+
+    private static final String WORKER = "worker-1";
+
+    private final CrawlPeriodStateRepository stateRepository = mock(CrawlPeriodStateRepository.class);
+    private final CrawlCheckpointService checkpoints = new CrawlCheckpointService(mock(CrawlRunRepository.class),
+            stateRepository, 3, 30, 900, 60, Duration.ofHours(12), WORKER);
+
+    @BeforeEach
+    void leaseHeld() {
+        when(stateRepository.updateLeased(anyLong(), anyString(), anyString(), anyInt(), any(), any(), anyBoolean()))
+                .thenReturn(1);
+    }
+
+    private static CrawlPeriodState period(int attempts) {
+        return CrawlPeriodState.builder()
+                .id(7L)
+                .runId(1L)
+                .periodName("Parlamentario 2016 - 2021")
+                .state(State.FETCHING)
+                .attempts(attempts)
+                .build();
+    }
+
+    private Duration backoffAfter(int attempts) {
+        CrawlPeriodState state = period(attempts);
+        Instant before = Instant.now();
+        assertTrue(checkpoints.markFailed(state, "boom"));
+        return Duration.between(before, state.getNextAttemptTime());
+    }
+
+    private static void assertAbout(Duration expected, Duration actual) {
+        assertTrue(actual.compareTo(expected) >= 0 && actual.compareTo(expected.plusSeconds(5)) < 0,
+                "expected about " + expected + " but was " + actual);
+    }
+
+    @Test
+    void backoffDoublesWithEveryAttempt() {
+        assertAbout(Duration.ofSeconds(30), backoffAfter(1));
+        assertAbout(Duration.ofSeconds(60), backoffAfter(2));
+        assertAbout(Duration.ofSeconds(120), backoffAfter(3));
+    }
+
+    @Test
+    void backoffIsCappedAtTheMaximum() {
+        assertAbout(Duration.ofSeconds(900), backoffAfter(10));
+        assertAbout(Duration.ofSeconds(900), backoffAfter(60));
+    }
+
+    @Test
+    void failureBeforeAnyAttemptCountsAsTheFirst() {
+        CrawlPeriodState state = period(0);
+
+        checkpoints.markFailed(state, "x".repeat(2000));
+
+        assertEquals(1, state.getAttempts());
+        assertEquals(State.FAILED, state.getState());
+        assertEquals(1000, state.getLastError().length());
+        verify(stateRepository).updateLeased(eq(7L), eq(WORKER), eq("FAILED"), eq(1), any(), any(), eq(true));
+    }
+
+    @Test
+    void fetchingCountsAnAttemptAndKeepsTheLease() {
+        CrawlPeriodState state = period(1);
+
+        assertTrue(checkpoints.transition(state, State.FETCHING));
+
+        assertEquals(2, state.getAttempts());
+        verify(stateRepository).updateLeased(eq(7L), eq(WORKER), eq("FETCHING"), eq(2), any(), any(), eq(false));
+    }
+
+    @Test
+    void persistedClearsTheRetryAndReleasesTheLease() {
+        CrawlPeriodState state = period(2);
+        state.setLastError("earlier failure");
+        state.setNextAttemptTime(Instant.now());
+
+        assertTrue(checkpoints.transition(state, State.PERSISTED));
+
+        assertNull(state.getLastError());
+        assertNull(state.getNextAttemptTime());
+        verify(stateRepository).updateLeased(eq(7L), eq(WORKER), eq("PERSISTED"), eq(2), any(), any(), eq(true));
+    }
+
+    @Test
+    void lostLeaseIsReportedToTheCaller() {
+        when(stateRepository.updateLeased(anyLong(), anyString(), anyString(), anyInt(), any(), any(), anyBoolean()))
+                .thenReturn(0);
+
+        assertFalse(checkpoints.transition(period(1), State.PARSED));
+        assertFalse(checkpoints.markFailed(period(1), "boom"));
+    }
+}
@@ -0,0 +1,134 @@
+package org.data.extractor.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.data.extractor.metrics.ScraperMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Replays the period form against a local server standing in for the congreso site
+ */
+class HttpCongressFetcherTest {
+
+    private static final String CURRENT = "Parlamentario 2021 - 2026";
+    private static final String PREVIOUS = "Parlamentario 2016 - 2021";
+
+    private static final String MEMBERS = """
+            <table>
+              <tr><th>#</th><th>Nombre</th><th>Grupo</th></tr>
+              <tr><td>1</td><td><a href="/congresistas/ana">Ana Pérez</a></td><td>Grupo A</td></tr>
+            </table>
+            """;
+
+    private HttpServer server;
+    private HttpCongressFetcher fetcher;
+    private volatile String answerSelection = PREVIOUS;
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+
+    private static String page(String selected) {
+        return """
+                <form method="post" action="/pleno/">
+                  <input type="hidden" name="token" value="t1">
+                  <input type="submit" name="go" value="Ver">
+                  <select name="idRegistroPadre">
+                    <option value="1"%s>%s</option>
+                    <option value="2"%s>%s</option>
+                  </select>
+                </form>
+                """.formatted(CURRENT.equals(selected) ? " selected" : "", CURRENT,
+                PREVIOUS.equals(selected) ? " selected" : "", PREVIOUS) + MEMBERS;
+    }
+
+    @BeforeEach
+    void startSite() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            requests.add(exchange.getRequestMethod() + " " + path + " cookie=" + exchange.getRequestHeaders().getFirst("Cookie")
+                    + (body.isEmpty() ? "" : " body=" + body));
+            switch (path) {
+                case "/" -> {
+                    exchange.getResponseHeaders().add("Set-Cookie", "JSESSIONID=abc; Path=/");
+                    respond(exchange, 200, page(CURRENT));
+                }
+                case "/pleno/" -> {
+                    exchange.getResponseHeaders().add("Location", "/pleno/resultado");
+                    respond(exchange, 302, "");
+                }
+                default -> respond(exchange, 200, page(answerSelection));
+            }
+        });
+        server.start();
+
+        String baseUrl = "http://localhost:" + server.getAddress().getPort() + "/";
+        ScraperMetrics metrics = ScraperMetrics.standalone();
+        HttpPageClient client = new HttpPageClient(HttpClient.newBuilder().followRedirects(HttpClient.Redirect.NEVER).build(), metrics);
+        fetcher = new HttpCongressFetcher(client, new MemberTableExtractor(baseUrl, metrics),
+                mock(WebpageRepositoryService.class), mock(RefreshPolicy.class));
+        ReflectionTestUtils.setField(fetcher, "BASE_URL", baseUrl);
+    }
+
+    @AfterEach
+    void stopSite() {
+        server.stop(0);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String html) throws IOException {
+        byte[] body = html.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/html; charset=UTF-8");
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    @Test
+    void submitsTheFormWithTheRequestedPeriodAndSessionCookie() {
+        Optional<CongressFetcher.FetchedPage> page = fetcher.fetchPage(PREVIOUS);
+
+        assertTrue(page.isPresent());
+        assertTrue(page.get().html().contains("<option value=\"2\" selected>"));
+        assertEquals(List.of(
+                "GET / cookie=null",
+                "POST /pleno/ cookie=JSESSIONID=abc body=token=t1&idRegistroPadre=2",
+                "GET /pleno/resultado cookie=JSESSIONID=abc"), requests);
+    }
+
+    @Test
+    void selectedPeriodIsServedFromTheBasePage() {
+        Optional<CongressFetcher.FetchedPage> page = fetcher.fetchPage(CURRENT);
+
+        assertTrue(page.isPresent());
+        assertEquals(List.of("GET / cookie=null"), requests);
+    }
+
+    @Test
+    void answerShowingAnotherPeriodIsRejected() {
+        answerSelection = CURRENT;
+
+        assertTrue(fetcher.fetchPage(PREVIOUS).isEmpty());
+    }
+
+    @Test
+    void unknownPeriodIsNotSubmitted() {
+        assertTrue(fetcher.fetchPage("Parlamentario 1990 - 1995").isEmpty());
+        assertEquals(1, requests.size());
+    }
+}
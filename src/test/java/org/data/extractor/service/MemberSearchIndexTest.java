@@ -0,0 +1,102 @@
+package org.data.extractor.service;
+
+import org.data.extractor.metrics.ScraperMetrics;
+import org.data.extractor.pojo.CongressMember;
+import org.data.extractor.pojo.IndexedMember;
+import org.data.extractor.pojo.ParliamentaryPeriod;
+import org.data.extractor.pojo.SearchHit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MemberSearchIndexTest {
+
+    private static final String P2016 = "Parlamentario 2016 - 2021";
+    private static final String P2021 = "Parlamentario 2021 - 2026";
+
+    private final SnapshotStore store = mock(SnapshotStore.class);
+    private final MemberSearchIndex index = new MemberSearchIndex(store, ScraperMetrics.standalone());
+
+    private static CongressMember member(String name, String group) {
+        return new CongressMember(name, group, "", "");
+    }
+
+    @BeforeEach
+    void buildIndex() {
+        when(store.findPeriods()).thenReturn(List.of(
+                ParliamentaryPeriod.fromName(P2016).orElseThrow(),
+                ParliamentaryPeriod.fromName(P2021).orElseThrow()));
+        when(store.findMembers(P2016)).thenReturn(Optional.of(List.of(
+                member("José María Gonzáles Ruiz", "Fuerza Popular"),
+                member("Rosa Martínez", "Frente Amplio"))));
+        when(store.findMembers(P2021)).thenReturn(Optional.of(List.of(
+                member("Josefina Gonzalez", "Perú Libre"),
+                member("Martín Vizcarra", "Somos Perú"))));
+        index.rebuild();
+    }
+
+    private static List<String> names(List<SearchHit> hits) {
+        return hits.stream().map(hit -> hit.member().name()).toList();
+    }
+
+    @Test
+    void prefixMatchesIgnoreAccentsAndCase() {
+        List<SearchHit> hits = index.search("JOSE gonz", 10);
+
+        assertEquals("José María Gonzáles Ruiz", hits.getFirst().member().name());
+        assertEquals(1.0, hits.getFirst().score());
+        assertEquals(List.of("José María Gonzáles Ruiz", "Josefina Gonzalez"),
+                names(hits.stream().filter(hit -> hit.score() == 1.0).toList()));
+    }
+
+    @Test
+    void everyQueryTokenMustPrefixANameToken() {
+        List<SearchHit> hits = index.search("rosa mart", 10);
+
+        assertEquals("Rosa Martínez", hits.getFirst().member().name());
+        assertEquals(1, hits.stream().filter(hit -> hit.score() == 1.0).count());
+    }
+
+    @Test
+    void misspelledNamesAreFoundByTrigramSimilarity() {
+        List<SearchHit> hits = index.search("vizcara", 10);
+
+        assertEquals("Martín Vizcarra", hits.getFirst().member().name());
+        assertTrue(hits.getFirst().score() < 1.0);
+        for (int i = 1; i < hits.size(); i++) {
+            assertTrue(hits.get(i - 1).score() >= hits.get(i).score());
+        }
+    }
+
+    @Test
+    void limitCapsPrefixAndFuzzyHits() {
+        assertEquals(1, index.search("jose", 1).size());
+        assertTrue(index.search("", 10).isEmpty());
+        assertTrue(index.search("jose", 0).isEmpty());
+    }
+
+    @Test
+    void filtersByPeriodAndNormalizedGroup() {
+        assertEquals(2, index.members(P2021, null).size());
+        assertEquals(List.of("Josefina Gonzalez"),
+                index.members(P2021, "peru libre").stream().map(IndexedMember::name).toList());
+        assertTrue(index.members(P2016, "Perú Libre").isEmpty());
+        assertEquals(4, index.members(null, null).size());
+    }
+
+    @Test
+    void failedRebuildKeepsThePreviousIndex() {
+        when(store.findPeriods()).thenThrow(new IllegalStateException("database down"));
+
+        index.rebuild();
+
+        assertEquals(4, index.members(null, null).size());
+    }
+}
@@ -0,0 +1,92 @@
+package org.data.extractor.service;
+
+import org.data.extractor.pojo.CongressMember;
+import org.junit.jupiter.api.Test;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MemberTableExtractorTest {
+
+    private static final String BASE_URL = "https://www.congreso.gob.pe";
+
+    private final MemberTableExtractor extractor = new MemberTableExtractor(BASE_URL);
+
+    static final String PAGE = """
+            <html><body>
+            <form method="post" action="/pleno/congresistas/">
+              <select name="idRegistroPadre">
+                <option value="1">Parlamentario 2021 - 2026</option>
+                <option value="2" selected>Parlamentario 2016 - 2021</option>
+              </select>
+            </form>
+            <table>
+              <tr><th>#</th><th>Nombre</th><th>Grupo</th><th>Correo</th></tr>
+              <tr><td>1</td><td><a href="/congresistas/ana">Ana Pérez</a></td><td>Grupo A</td><td><a>ana@congreso.gob.pe</a></td></tr>
+              <tr><td>2</td><td><a href="/congresistas/luis">Luis Díaz</a></td><td>Grupo B</td><td></td></tr>
+              <tr><td colspan="3">Sin datos</td></tr>
+            </table>
+            <table><tr><td>x</td><td><a href="/other">Not a member</a></td><td>y</td></tr></table>
+            """;
+
+    @Test
+    void extractsTheRowsOfTheFirstTableSkippingItsHeader() {
+        List<CongressMember> members = extractor.extractMembers(PAGE).orElseThrow();
+
+        assertEquals(List.of(
+                new CongressMember("Ana Pérez", "Grupo A", "ana@congreso.gob.pe", BASE_URL + "/congresistas/ana"),
+                new CongressMember("Luis Díaz", "Grupo B", "", BASE_URL + "/congresistas/luis")), members);
+    }
+
+    @Test
+    void stopsReadingOnceTheFirstTableIsComplete() {
+        // A long tail after the table: only a bounded read-ahead of it may be consumed
+        String page = PAGE + "<p>filler</p>".repeat(100_000);
+        CountingReader reader = new CountingReader(page);
+
+        assertEquals(2, extractor.extractMembers(reader).orElseThrow().size());
+        assertTrue(reader.read < page.length() / 4, "read " + reader.read + " of " + page.length() + " chars");
+    }
+
+    private static final class CountingReader extends FilterReader {
+        long read;
+
+        CountingReader(String text) {
+            super(new StringReader(text));
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                read += n;
+            }
+            return n;
+        }
+    }
+
+    @Test
+    void emptyTableIsPresentButEmpty() {
+        Optional<List<CongressMember>> members = extractor.extractMembers("<table><tr><th>Nombre</th></tr></table>");
+
+        assertEquals(Optional.of(List.of()), members);
+    }
+
+    @Test
+    void pageWithoutTableIsEmpty() {
+        assertTrue(extractor.extractMembers("<html><body><p>Cargando…</p></body></html>").isEmpty());
+    }
+
+    @Test
+    void readsPeriodOptionsAndTheSelectedOne() {
+        assertEquals(List.of("Parlamentario 2021 - 2026", "Parlamentario 2016 - 2021"), extractor.extractPeriodOptions(PAGE));
+        assertEquals(Optional.of("Parlamentario 2016 - 2021"), extractor.extractSelectedOption(PAGE, "idRegistroPadre"));
+        assertEquals(Optional.empty(), extractor.extractSelectedOption(PAGE, "missing"));
+    }
+}
@@ -0,0 +1,140 @@
+package org.data.extractor.service;
+
+import org.data.extractor.entity.PeriodRefresh;
+import org.data.extractor.repository.PeriodRefreshRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.Year;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RefreshPolicyTest {
+
+    private static final String CLOSED = "Parlamentario 2006 - 2011";
+    private static final Duration ACTIVE = Duration.ofHours(1);
+    private static final Duration MIN = Duration.ofDays(1);
+    private static final Duration MAX = Duration.ofDays(30);
+
+    private final PeriodRefreshRepository repository = mock(PeriodRefreshRepository.class);
+
+    @BeforeEach
+    void saveReturnsItsArgument() {
+        when(repository.save(any(PeriodRefresh.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    private RefreshPolicy policy(double jitter) {
+        return new RefreshPolicy(repository, ACTIVE, MIN, MAX, jitter);
+    }
+
+    private void stored(String period, Duration interval) {
+        when(repository.findById(period)).thenReturn(Optional.of(PeriodRefresh.builder()
+                .periodName(period)
+                .intervalSeconds(interval.toSeconds())
+                .nextCheckTime(Instant.now())
+                .build()));
+    }
+
+    private static String activePeriod() {
+        int year = Year.now().getValue();
+        return "Parlamentario " + (year - 1) + " - " + (year + 4);
+    }
+
+    @Test
+    void unchangedClosedPeriodDoublesItsInterval() {
+        stored(CLOSED, Duration.ofDays(4));
+
+        PeriodRefresh refresh = policy(0).recordCheck(CLOSED, false);
+
+        assertEquals(Duration.ofDays(8).toSeconds(), refresh.getIntervalSeconds());
+        assertEquals(1, refresh.getUnchangedChecks());
+    }
+
+    @Test
+    void changedClosedPeriodHalvesItsInterval() {
+        stored(CLOSED, Duration.ofDays(4));
+
+        PeriodRefresh refresh = policy(0).recordCheck(CLOSED, true);
+
+        assertEquals(Duration.ofDays(2).toSeconds(), refresh.getIntervalSeconds());
+        assertEquals(0, refresh.getUnchangedChecks());
+        assertEquals(refresh.getLastCheckedTime(), refresh.getLastChangedTime());
+    }
+
+    @Test
+    void intervalStaysWithinBounds() {
+        stored(CLOSED, Duration.ofDays(20));
+        assertEquals(MAX.toSeconds(), policy(0).recordCheck(CLOSED, false).getIntervalSeconds());
+
+        stored(CLOSED, Duration.ofHours(30));
+        assertEquals(MIN.toSeconds(), policy(0).recordCheck(CLOSED, true).getIntervalSeconds());
+    }
+
+    @Test
+    void firstCheckStartsFromTheMinimumInterval() {
+        when(repository.findById(CLOSED)).thenReturn(Optional.empty());
+
+        assertEquals(MIN.multipliedBy(2).toSeconds(), policy(0).recordCheck(CLOSED, false).getIntervalSeconds());
+    }
+
+    @Test
+    void activePeriodKeepsTheFixedInterval() {
+        String active = activePeriod();
+        stored(active, Duration.ofDays(4));
+
+        assertEquals(ACTIVE.toSeconds(), policy(0).recordCheck(active, false).getIntervalSeconds());
+    }
+
+    @Test
+    void withoutJitterTheNextCheckIsExactlyOneIntervalAway() {
+        stored(CLOSED, Duration.ofDays(4));
+
+        PeriodRefresh refresh = policy(0).recordCheck(CLOSED, false);
+
+        assertEquals(refresh.getLastCheckedTime().plus(Duration.ofDays(8)), refresh.getNextCheckTime());
+    }
+
+    @Test
+    void jitterSpreadsTheNextCheckAroundTheInterval() {
+        stored(CLOSED, Duration.ofDays(4));
+        RefreshPolicy policy = policy(0.2);
+
+        for (int i = 0; i < 50; i++) {
+            PeriodRefresh refresh = policy.recordCheck(CLOSED, false);
+            Duration delay = Duration.between(refresh.getLastCheckedTime(), refresh.getNextCheckTime());
+            Duration interval = Duration.ofSeconds(refresh.getIntervalSeconds());
+            assertTrue(delay.compareTo(interval.multipliedBy(8).dividedBy(10)) >= 0, delay.toString());
+            assertTrue(delay.compareTo(interval.multipliedBy(12).dividedBy(10)) <= 0, delay.toString());
+            stored(CLOSED, Duration.ofDays(4));
+        }
+    }
+
+    @Test
+    void maxAgeStaysBelowTheEarliestJitteredCheck() {
+        stored(CLOSED, Duration.ofDays(10));
+
+        assertEquals(Duration.ofDays(8), policy(0.2).maxAge(CLOSED));
+    }
+
+    @Test
+    void duePeriodsPutActiveAndNeverCheckedFirst() {
+        String active = activePeriod();
+        String overdue = "Parlamentario 2001 - 2006";
+        when(repository.findAllById(any())).thenReturn(List.of(
+                PeriodRefresh.builder().periodName(active).intervalSeconds(3600).nextCheckTime(Instant.now().minusSeconds(10)).build(),
+                PeriodRefresh.builder().periodName(overdue).intervalSeconds(3600).nextCheckTime(Instant.now().minusSeconds(60)).build(),
+                PeriodRefresh.builder().periodName(CLOSED).intervalSeconds(3600).nextCheckTime(Instant.now().plusSeconds(3600)).build()));
+
+        List<String> due = policy(0).duePeriods(List.of(CLOSED, overdue, "Parlamentario 1995 - 2000", active), 10);
+
+        assertEquals(List.of(active, "Parlamentario 1995 - 2000", overdue), due);
+    }
+}
@@ -0,0 +1,57 @@
+package org.data.extractor.service;
+
+import org.data.extractor.pojo.CongressMember;
+import org.data.extractor.pojo.MemberDelta;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SnapshotDifferTest {
+
+    private final SnapshotDiffer differ = new SnapshotDiffer();
+
+    private static CongressMember member(String name, String group) {
+        return new CongressMember(name, group, name.toLowerCase() + "@congreso.gob.pe", "https://congreso/" + name);
+    }
+
+    @Test
+    void unchangedMembersProduceAnEmptyDelta() {
+        CongressMember ana = member("Ana", "A");
+        MemberDelta delta = differ.diff("P", Map.of("Ana", ana.fingerprint()), List.of(ana));
+
+        assertTrue(delta.isEmpty());
+    }
+
+    @Test
+    void classifiesInsertedUpdatedAndRemoved() {
+        CongressMember ana = member("Ana", "A");
+        CongressMember luis = member("Luis", "B");
+        Map<String, String> stored = Map.of(
+                "Ana", ana.fingerprint(),
+                "Luis", member("Luis", "A").fingerprint(),
+                "Rosa", member("Rosa", "C").fingerprint());
+
+        CongressMember pedro = member("Pedro", "D");
+        MemberDelta delta = differ.diff("P", stored, List.of(ana, luis, pedro));
+
+        assertEquals(List.of(pedro), delta.inserted());
+        assertEquals(List.of(luis), delta.updated());
+        assertEquals(List.of("Rosa"), delta.removed());
+        assertEquals(List.of(pedro, luis), delta.changed());
+    }
+
+    @Test
+    void lastOccurrenceOfADuplicateNameWins() {
+        CongressMember first = member("Ana", "A");
+        CongressMember last = member("Ana", "B");
+
+        MemberDelta delta = differ.diff("P", Map.of("Ana", first.fingerprint()), List.of(first, last));
+
+        assertEquals(List.of(last), delta.updated());
+        assertTrue(delta.inserted().isEmpty());
+    }
+}